@@ -0,0 +1,97 @@
+package com.example.kanban_cli.db;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Seeded SQLite files for the benchmarks. A board of each size is built once
+// in the temp directory and copied for every trial, so benchmarks that write
+// never change what the next trial reads. Every JMH fork is a new JVM, which
+// is what lets the Database singleton open a different copy per trial.
+final class BenchmarkDatabase {
+
+    // Collection 1 is active and holds every task, the others are empty
+    static final int COLLECTIONS = 10;
+
+    private static final String[] STATUSES = {"todo", "in_progress", "done"};
+    private static final long START = 1_700_000_000_000L;
+    private static final long MINUTE = 60_000L;
+    private static final long DAY = 86_400_000L;
+
+    private BenchmarkDatabase() {
+    }
+
+    // Point the app at a fresh copy of a board with the given number of tasks
+    static Path open(int tasks) throws IOException, SQLException {
+        // Named after the schema version so a template from an older build is never reused
+        Path template = Path.of(System.getProperty("java.io.tmpdir"),
+                "kanban-bench-v" + Migrations.LATEST + "-" + tasks + ".db");
+        if (!Files.exists(template)) {
+            seed(template, tasks);
+        }
+
+        Path copy = Files.createTempFile("kanban-bench-", ".db");
+        Files.copy(template, copy, StandardCopyOption.REPLACE_EXISTING);
+        copy.toFile().deleteOnExit();
+
+        System.setProperty("kanban.db", copy.toString());
+        return copy;
+    }
+
+    // Task i is named "task i", cycles through the statuses, is created one
+    // minute after the previous one and every fourth task has a due date
+    private static void seed(Path template, int tasks) throws IOException, SQLException {
+        Path partial = template.resolveSibling(template.getFileName() + ".partial");
+        Files.deleteIfExists(partial);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + partial)) {
+            Migrations.migrate(connection);
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO collections (name, created_at) VALUES (?, ?)")) {
+                for (int i = 1; i <= COLLECTIONS; i++) {
+                    insert.setString(1, "board " + i);
+                    insert.setLong(2, START);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("INSERT INTO active_collection (id, collection_id, name) VALUES (1, 1, 'board 1')");
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO tasks (name, status, due_date, created_at, collection_id) VALUES (?, ?, ?, ?, 1)")) {
+                for (int i = 0; i < tasks; i++) {
+                    long createdAt = START + i * MINUTE;
+                    insert.setString(1, "task " + i);
+                    insert.setString(2, STATUSES[i % STATUSES.length]);
+                    insert.setObject(3, i % 4 == 0 ? createdAt + 7 * DAY : null);
+                    insert.setLong(4, createdAt);
+                    insert.addBatch();
+
+                    if (i % 10_000 == 9_999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+
+            connection.commit();
+            try (Statement stmt = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                stmt.execute("ANALYZE");
+            }
+        }
+
+        Files.move(partial, template, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
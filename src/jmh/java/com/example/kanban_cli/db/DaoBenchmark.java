@@ -0,0 +1,105 @@
+package com.example.kanban_cli.db;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+/**
+ * DAO hot paths against seeded boards of 1k, 100k and 1M tasks.
+ * Each trial runs in its own fork on its own copy of the board.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int tasks;
+
+    private TaskDAO taskDAO;
+    private CollectionDAO collectionDAO;
+    private int collectionId;
+    private String existingName;
+    private int created;
+
+    // A plain statement walked row by row for the mapping benchmark
+    private PreparedStatement scan;
+    private ResultSet cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.open(tasks);
+
+        taskDAO = new TaskDAO();
+        collectionDAO = new CollectionDAO();
+        collectionId = Context.getActiveCollection().getId();
+        existingName = "task " + (tasks / 2);
+
+        scan = Database.getInstance().getConnection().prepareStatement("SELECT * FROM tasks");
+        cursor = scan.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        cursor.close();
+        scan.close();
+        Database.getInstance().close();
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return taskDAO.getAllTasks();
+    }
+
+    @Benchmark
+    public Task getTaskByName() {
+        return taskDAO.getTaskByName(existingName);
+    }
+
+    @Benchmark
+    public Task createTask() {
+        Task task = new Task("created " + created++);
+        task.setCollectionId(collectionId);
+        taskDAO.createTask(task);
+        return task;
+    }
+
+    @Benchmark
+    public List<Collection> getAllCollections() {
+        return collectionDAO.getAllCollections();
+    }
+
+    // One cursor step plus the mapping, restarting the scan when it runs out
+    @Benchmark
+    public Task mapResultSetToTask() throws SQLException {
+        if (!cursor.next()) {
+            cursor.close();
+            cursor = scan.executeQuery();
+            cursor.next();
+        }
+        return taskDAO.mapResultSetToTask(cursor);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.kanban_cli.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formatting a task for display, as a new String and into a reused builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskFormatBenchmark {
+
+    private Task task;
+    private final StringBuilder sb = new StringBuilder(256);
+
+    @Setup
+    public void setUp() {
+        task = new Task("Write the quarterly report");
+        task.setId(4242);
+        task.setCollectionId(1);
+        task.setStatus("in_progress");
+        task.setCreatedAtMillis(1_700_000_000_000L);
+        task.setDueDateMillis(1_700_000_000_000L + 86_400_000L);
+        task.setUpdatedAtMillis(1_700_000_000_000L + 3_600_000L);
+    }
+
+    @Benchmark
+    public String taskToString() {
+        return task.toString();
+    }
+
+    @Benchmark
+    public int taskAppendTo() {
+        sb.setLength(0);
+        return task.appendTo(sb).length();
+    }
+}
@@ -1,7 +1,17 @@
 package com.example.kanban_cli;
 
+import java.lang.management.ManagementFactory;
+
+import com.example.kanban_cli.daemon.DaemonClient;
+import com.example.kanban_cli.db.Database;
+import com.example.kanban_cli.db.Profiler;
+import com.example.kanban_cli.jfr.CommandEvent;
+
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParseResult;
+import picocli.CommandLine.ScopeType;
 
 
 @Command(name = "kanban",
@@ -17,10 +27,30 @@ import picocli.CommandLine.Command;
                 com.example.kanban_cli.command.DueDateCommand.class,
                 com.example.kanban_cli.command.RenameCommand.class,
                 com.example.kanban_cli.command.MoveCommand.class,
-                com.example.kanban_cli.command.CleanupCommand.class
+                com.example.kanban_cli.command.CleanupCommand.class,
+                com.example.kanban_cli.command.ArchiveCommand.class,
+                com.example.kanban_cli.command.DaemonCommand.class,
+                com.example.kanban_cli.command.ShellCommand.class,
+                com.example.kanban_cli.command.ImportCommand.class,
+                com.example.kanban_cli.command.ExportCommand.class,
+                com.example.kanban_cli.command.StatsCommand.class,
+                com.example.kanban_cli.command.SearchCommand.class,
+                com.example.kanban_cli.command.BenchCommand.class
         })
 public class App implements Runnable {
 
+    // Only the first command of a process has paid for starting the JVM
+    private static boolean started;
+    // Set while a profiled command runs, so a shell line inside it does not start another
+    private static boolean profiling;
+
+    @Option(
+            names = {"--profile"},
+            description = "Print SQL statement counts and timings to stderr when the command ends",
+            scope = ScopeType.INHERIT
+    )
+    private boolean profile;
+
     @Override
     public void run() {
         // If no subcommand is provided, display help
@@ -28,8 +58,92 @@ public class App implements Runnable {
     }
 
     public static void main(String[] args) {
-        int exitCode = new CommandLine(new App()).execute(args);
+        // Hand the call to a running daemon if there is one, otherwise run in-process
+        Integer exitCode = DaemonClient.forward(args);
+        if (exitCode == null) {
+            exitCode = execute(args);
+        }
         System.exit(exitCode);
+    }
+
+    // Parse and run one command line against this process's database and context
+    public static int execute(String[] args) {
+        return execute(commandLine(), args);
+    }
+
+    // A parser for the full command tree, shared settings included
+    public static CommandLine commandLine() {
+        return new CommandLine(new App())
+                .setCaseInsensitiveEnumValuesAllowed(true)
+                .setExecutionStrategy(App::run);
+    }
+
+    // Run a command line on an existing CommandLine, as the shell does for every line
+    public static int execute(CommandLine commandLine, String[] args) {
+        return commandLine.execute(args);
+    }
+
+    // Run the parsed command as one kanban.Command JFR event
+    private static int run(ParseResult parseResult) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        try {
+            event.exitCode = dispatch(parseResult);
+            return event.exitCode;
+        } finally {
+            if (event.shouldCommit()) {
+                event.command = commandName(parseResult);
+                event.arguments = String.join(" ", parseResult.originalArgs());
+                event.commit();
+            }
+        }
+    }
+
+    // Run the command, wrapped in a profiler when --profile was given anywhere on the line
+    private static int dispatch(ParseResult parseResult) {
+        long startupNanos = started ? 0 : ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000L;
+        started = true;
+
+        if (profiling || !isProfiling(parseResult)) {
+            return new CommandLine.RunLast().execute(parseResult);
+        }
+
+        // Opening the database counts as startup, everything after it as the command
+        long start = System.nanoTime();
+        Database database = Database.getInstance();
+        Profiler profiler = new Profiler();
+        database.setProfiler(profiler);
+        profiling = true;
+        long opened = System.nanoTime();
+
+        try {
+            return new CommandLine.RunLast().execute(parseResult);
+        } finally {
+            profiling = false;
+            database.setProfiler(null);
+            System.out.flush();
+            profiler.printSummary(System.err, startupNanos + opened - start, System.nanoTime() - opened);
+        }
+    }
+
+    // The subcommand path that ran, such as "bench seed"
+    private static String commandName(ParseResult parseResult) {
+        StringBuilder name = new StringBuilder();
+        for (ParseResult result = parseResult.subcommand(); result != null; result = result.subcommand()) {
+            if (name.length() > 0) {
+                name.append(' ');
+            }
+            name.append(result.commandSpec().name());
+        }
+        return name.length() > 0 ? name.toString() : parseResult.commandSpec().name();
+    }
 
+    private static boolean isProfiling(ParseResult parseResult) {
+        for (ParseResult result = parseResult; result != null; result = result.subcommand()) {
+            if (result.hasMatchedOption("--profile")) {
+                return true;
+            }
+        }
+        return false;
     }
 }
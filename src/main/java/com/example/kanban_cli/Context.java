@@ -3,6 +3,8 @@ package com.example.kanban_cli;
 import com.example.kanban_cli.db.CollectionDAO;
 import com.example.kanban_cli.model.Collection;
 
+// The active collection for this process, loaded once from the single-row
+// pointer. Only its id and name are filled in.
 public class Context {
     private static Collection activeCollection;
     private static final CollectionDAO collectionDAO = new CollectionDAO();
@@ -22,8 +24,20 @@ public class Context {
         activeCollection = collectionDAO.loadActiveCollection();
     }
 
+    // Make a collection active: one write to the pointer row
+    public static void setActiveCollection(Collection collection) {
+        collectionDAO.setActiveCollection(collection.getId(), collection.getName());
+        activeCollection = null;
+    }
+
     public static void clearActiveCollection() {
-        collectionDAO.clearAllActive();
+        collectionDAO.clearActiveCollection();
+        activeCollection = null;
+    }
+
+    // Drop the cached collection so the next access reloads it. Needed when a
+    // long-lived process (daemon) sees the active collection renamed or deleted.
+    public static void invalidate() {
         activeCollection = null;
     }
 }
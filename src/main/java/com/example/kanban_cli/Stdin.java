@@ -0,0 +1,27 @@
+package com.example.kanban_cli;
+
+import java.io.InputStream;
+import java.util.Scanner;
+
+// Shared line reader over whatever System.in currently is. The daemon swaps
+// System.in per request, so commands must not capture it in a static Scanner.
+public class Stdin {
+    private static InputStream source;
+    private static Scanner scanner;
+
+    public static synchronized String nextLine() {
+        return scanner().nextLine();
+    }
+
+    public static synchronized boolean hasNextLine() {
+        return scanner().hasNextLine();
+    }
+
+    private static Scanner scanner() {
+        if (scanner == null || source != System.in) {
+            source = System.in;
+            scanner = new Scanner(source);
+        }
+        return scanner;
+    }
+}
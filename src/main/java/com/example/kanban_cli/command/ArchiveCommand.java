@@ -0,0 +1,135 @@
+package com.example.kanban_cli.command;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.TaskDAO;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "archive",
+        description = "Move old done tasks out of the board into the archive"
+)
+public class ArchiveCommand implements Runnable {
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+)\\s*([hdw])");
+    private static final long HOUR = 3_600_000L;
+
+    @Option(
+            names = {"-o", "--older-than"},
+            description = "Archive done tasks last changed longer ago than this, e.g. 12h, 30d or 8w",
+            required = true
+    )
+    private String olderThan;
+
+    @Option(
+            names = {"-a", "--all"},
+            description = "Archive from every collection instead of the active one"
+    )
+    private boolean all;
+
+    @Option(
+            names = {"-b", "--batch-size"},
+            description = "Tasks moved per transaction (default: 1000)",
+            defaultValue = "1000"
+    )
+    private int batchSize;
+
+    @Option(
+            names = {"-n", "--dry-run"},
+            description = "Only report how many tasks would be archived"
+    )
+    private boolean dryRun;
+
+    @Override
+    public void run() {
+
+        // Validation checks
+
+        Long age = parseDuration(olderThan);
+        if (age == null) {
+            System.err.println("""
+                               Invalid value for --older-than.
+                               Expected a number followed by h, d or w
+                               Example: archive --older-than 30d""");
+            return;
+        }
+
+        if (batchSize < 1) {
+            System.err.println("Batch size must be at least 1.");
+            return;
+        }
+
+        Integer collectionId = null;
+        if (!all) {
+            if (!Context.hasActiveCollection()) {
+                System.err.println("No active collection. Use 'use <collection>' first, or --all.");
+                return;
+            }
+            collectionId = Context.getActiveCollection().getId();
+        }
+
+        TaskDAO dao = new TaskDAO();
+        long cutoff = System.currentTimeMillis() - age;
+
+        if (dryRun) {
+            int count = dao.countArchivable(collectionId, cutoff);
+            if (count >= 0) {
+                System.out.println(count + " done task(s) would be archived.");
+            }
+            return;
+        }
+
+        // Short transactions so other commands are never locked out for long.
+        // Each batch starts past the last id of the one before.
+        long archived = 0;
+        int batches = 0;
+        int lastId = 0;
+        while (true) {
+            TaskDAO.Archived batch = dao.archiveDone(collectionId, cutoff, lastId, batchSize);
+            if (batch == null) {
+                System.err.println("Archiving stopped after " + archived + " task(s).");
+                return;
+            }
+            if (batch.count() == 0) {
+                break;
+            }
+            archived += batch.count();
+            lastId = batch.lastId();
+            batches++;
+        }
+
+        System.out.println(archived + " done task(s) archived in " + batches + " batch(es).");
+
+        // Every archived task left a delete in the change log for watchers;
+        // entries older than a day have been read by any that are running
+        dao.pruneChanges();
+    }
+
+    // Helper methods
+
+    private Long parseDuration(String value) {
+        Matcher m = DURATION.matcher(value.trim().toLowerCase(Locale.ROOT));
+        if (!m.matches()) {
+            return null;
+        }
+
+        long amount;
+        try {
+            amount = Long.parseLong(m.group(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        long unit = switch (m.group(2)) {
+            case "h" -> HOUR;
+            case "d" -> 24 * HOUR;
+            default -> 7 * 24 * HOUR;
+        };
+        return amount > Long.MAX_VALUE / unit ? null : amount * unit;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.kanban_cli.command;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+@Command(
+        name = "bench",
+        description = "Tools for load testing and reproducing large boards",
+        subcommands = {
+                BenchSeedCommand.class
+        }
+)
+public class BenchCommand implements Runnable {
+
+    @Override
+    public void run() {
+        // Nothing to do without a subcommand
+        CommandLine.usage(this, System.out);
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.kanban_cli.command;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import com.example.kanban_cli.db.CollectionDAO;
+import com.example.kanban_cli.db.TaskDAO;
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "seed",
+        description = "Generate collections of synthetic tasks, the same board for the same seed"
+)
+public class BenchSeedCommand implements Runnable {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final long DAY = 86_400_000L;
+    private static final String[] STATUSES = {"todo", "in_progress", "done"};
+
+    // Names reused by later collections are drawn from the first ones generated
+    private static final int NAME_POOL = 100_000;
+
+    private static final String[] WORDS = {
+            "fix", "add", "update", "remove", "review", "refactor", "test", "deploy",
+            "login", "signup", "page", "form", "api", "cache", "index", "query",
+            "report", "export", "import", "search", "billing", "invoice", "email", "alert",
+            "dashboard", "settings", "profile", "upload", "backup", "migration", "docs", "release",
+            "bug", "crash", "timeout", "layout", "button", "menu", "session", "token"
+    };
+
+    @Option(
+            names = {"-c", "--collections"},
+            description = "Number of collections to create (default: 1)",
+            defaultValue = "1"
+    )
+    private int collections;
+
+    @Option(
+            names = {"-t", "--tasks"},
+            description = "Tasks per collection (default: 1000)",
+            defaultValue = "1000"
+    )
+    private int tasks;
+
+    @Option(
+            names = {"--seed"},
+            description = "Random seed, the same seed and options give the same board (default: 1)",
+            defaultValue = "1"
+    )
+    private long seed;
+
+    @Option(
+            names = {"--status-mix"},
+            description = "Relative weights of todo, in_progress and done (default: 60,25,15)",
+            split = ",",
+            defaultValue = "60,25,15"
+    )
+    private int[] statusMix;
+
+    @Option(
+            names = {"--due-rate"},
+            description = "Share of tasks with a due date, 0 to 1 (default: 0.5)",
+            defaultValue = "0.5"
+    )
+    private double dueRate;
+
+    @Option(
+            names = {"--overdue-rate"},
+            description = "Share of due dates already past, 0 to 1. Done tasks never count as overdue (default: 0.2)",
+            defaultValue = "0.2"
+    )
+    private double overdueRate;
+
+    @Option(
+            names = {"--name-length"},
+            description = "Task name length in characters, as min-max (default: 12-40)",
+            split = "-",
+            defaultValue = "12-40"
+    )
+    private int[] nameLength;
+
+    @Option(
+            names = {"--collision-rate"},
+            description = "Share of task names reused from earlier collections, 0 to 1 (default: 0.05)",
+            defaultValue = "0.05"
+    )
+    private double collisionRate;
+
+    @Option(
+            names = {"--days"},
+            description = "Days of history that creation dates are spread over (default: 365)",
+            defaultValue = "365"
+    )
+    private int days;
+
+    @Option(
+            names = {"--anchor"},
+            description = "Day the generated history ends, dd/MM/yyyy (default: today)"
+    )
+    private String anchor;
+
+    @Option(
+            names = {"-p", "--prefix"},
+            description = "Collection names are <prefix>-1, <prefix>-2, ... (default: bench)",
+            defaultValue = "bench"
+    )
+    private String prefix;
+
+    @Option(
+            names = {"-b", "--batch-size"},
+            description = "Rows inserted per transaction (default: 5000)",
+            defaultValue = "5000"
+    )
+    private int batchSize;
+
+    @Override
+    public void run() {
+
+        // Validation checks
+
+        if (collections < 1 || tasks < 0 || batchSize < 1 || days < 1) {
+            System.err.println("Collections, batch size and days must be at least 1, tasks at least 0.");
+            return;
+        }
+
+        if (statusMix.length != STATUSES.length || statusMix[0] < 0 || statusMix[1] < 0 || statusMix[2] < 0
+                || statusMix[0] + statusMix[1] + statusMix[2] == 0) {
+            System.err.println("Status mix must be three non-negative weights, for example 60,25,15.");
+            return;
+        }
+
+        if (!isRate(dueRate) || !isRate(overdueRate) || !isRate(collisionRate)) {
+            System.err.println("Rates must be between 0 and 1.");
+            return;
+        }
+
+        if (nameLength.length != 2 || nameLength[0] < 8 || nameLength[0] > nameLength[1]) {
+            System.err.println("Name length must be min-max with a minimum of at least 8, for example 12-40.");
+            return;
+        }
+
+        long anchorMillis;
+        try {
+            anchorMillis = anchor != null
+                    ? Timestamps.parse(anchor)
+                    : Timestamps.toMillis(LocalDate.now().atStartOfDay());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        CollectionDAO collectionDAO = new CollectionDAO();
+        for (int c = 1; c <= collections; c++) {
+            if (collectionDAO.getCollectionByName(prefix + "-" + c, false) != null) {
+                System.err.println("Collection '" + prefix + "-" + c + "' already exists. Use another --prefix.");
+                return;
+            }
+        }
+
+        TaskDAO taskDAO = new TaskDAO();
+        Random random = new Random(seed);
+        long historyStart = anchorMillis - days * DAY;
+        List<String> pool = new ArrayList<>();
+        List<Task> batch = new ArrayList<>(Math.min(batchSize, 10_000));
+
+        long start = System.nanoTime();
+        long inserted = 0;
+
+        for (int c = 1; c <= collections; c++) {
+            String collectionName = prefix + "-" + c;
+            Collection collection = new Collection(collectionName);
+            collection.setName(collectionName);
+            collection.setCreatedAtMillis(historyStart);
+            collectionDAO.createCollection(collection);
+
+            Collection saved = collectionDAO.getCollectionByName(collectionName, false);
+            if (saved == null) {
+                return;
+            }
+
+            // Only names from earlier collections are reused, names stay unique within one
+            int reusable = pool.size();
+            Set<String> names = new HashSet<>();
+
+            for (int i = 0; i < tasks; i++) {
+                String name = nextName(random, i, pool, reusable, names);
+                if (pool.size() < NAME_POOL) {
+                    pool.add(name);
+                }
+
+                batch.add(nextTask(random, name, saved.getId(), historyStart, anchorMillis));
+                if (batch.size() == batchSize) {
+                    if (!flush(taskDAO, batch)) {
+                        return;
+                    }
+                    inserted += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!flush(taskDAO, batch)) {
+            return;
+        }
+        inserted += batch.size();
+
+        double seconds = Math.max((System.nanoTime() - start) / 1_000_000_000.0, 1e-9);
+        System.out.printf(Locale.ROOT, "Seeded %d collection(s) with %d task(s) in %.2f s (%.0f tasks/s).%n",
+                collections, inserted, seconds, inserted / seconds);
+        System.out.println("Reproduce with: kanban bench seed " + describe(anchorMillis));
+    }
+
+    // Helper methods
+
+    private boolean isRate(double rate) {
+        return rate >= 0 && rate <= 1;
+    }
+
+    private boolean flush(TaskDAO taskDAO, List<Task> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        if (taskDAO.insertBatch(batch) != batch.size()) {
+            System.err.println("Seeding stopped: a batch of " + batch.size() + " task(s) could not be saved.");
+            return false;
+        }
+        return true;
+    }
+
+    // A name reused from an earlier collection, or words cut to a random length
+    // and ending in the task's base-36 index, which keeps it unique in the collection
+    private String nextName(Random random, int index, List<String> pool, int reusable, Set<String> names) {
+        if (reusable > 0 && random.nextDouble() < collisionRate) {
+            String reused = pool.get(random.nextInt(reusable));
+            if (names.add(reused.toLowerCase(Locale.ROOT))) {
+                return reused;
+            }
+        }
+
+        String suffix = "-" + Integer.toString(index, 36);
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int length = nameLength[0] + random.nextInt(nameLength[1] - nameLength[0] + 1) - suffix.length();
+            sb.setLength(0);
+            while (sb.length() < length) {
+                sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            sb.setLength(length);
+            String name = sb.toString().trim() + suffix;
+
+            if (names.add(name.toLowerCase(Locale.ROOT))) {
+                return name;
+            }
+        }
+    }
+
+    // Build the task through the model setters so generated rows follow the same rules as 'new task'
+    private Task nextTask(Random random, String name, int collectionId, long historyStart, long anchorMillis) {
+        Task task = new Task(name);
+        task.setName(name);
+        task.setCollectionId(collectionId);
+
+        long createdAt = historyStart + random.nextLong(anchorMillis - historyStart);
+        task.setCreatedAtMillis(createdAt);
+
+        String status = pickStatus(random);
+        task.setStatus(status);
+        if (!status.equals("todo")) {
+            task.setUpdatedAtMillis(createdAt + random.nextLong(anchorMillis - createdAt + 1));
+        }
+
+        if (random.nextDouble() < dueRate) {
+            if (random.nextDouble() < overdueRate) {
+                task.setDueDateMillis(createdAt + random.nextLong(anchorMillis - createdAt + 1));
+            } else {
+                task.setDueDateMillis(anchorMillis + DAY * (1 + random.nextInt(90)));
+            }
+        }
+
+        return task;
+    }
+
+    private String pickStatus(Random random) {
+        int roll = random.nextInt(statusMix[0] + statusMix[1] + statusMix[2]);
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (roll < statusMix[i]) {
+                return STATUSES[i];
+            }
+            roll -= statusMix[i];
+        }
+        return STATUSES[STATUSES.length - 1];
+    }
+
+    // Every option that shapes the board, so a bug report can carry the exact command
+    private String describe(long anchorMillis) {
+        return String.format(Locale.ROOT,
+                "-c %d -t %d --seed %d --status-mix %d,%d,%d --due-rate %s --overdue-rate %s"
+                        + " --name-length %d-%d --collision-rate %s --days %d --anchor %s -p %s",
+                collections, tasks, seed, statusMix[0], statusMix[1], statusMix[2], dueRate, overdueRate,
+                nameLength[0], nameLength[1], collisionRate, days,
+                DATE.format(Timestamps.toLocalDateTime(anchorMillis)), prefix);
+    }
+}
@@ -1,13 +1,11 @@
 package com.example.kanban_cli.command;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Scanner;
 import java.util.Set;
 
 import com.example.kanban_cli.Context;
+import com.example.kanban_cli.Stdin;
 import com.example.kanban_cli.db.TaskDAO;
-import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
 
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -18,8 +16,6 @@ import picocli.CommandLine.Option;
 )
 public class CleanupCommand implements Runnable {
 
-    private static final Scanner SCANNER = new Scanner(System.in);
-
     private static final Set<String> VALID_STATUSES =
             Set.of("todo", "in_progress", "done");
 
@@ -35,6 +31,18 @@ public class CleanupCommand implements Runnable {
     )
     private String status;
 
+    @Option(
+            names = {"-n", "--dry-run"},
+            description = "Only report how many tasks would be removed"
+    )
+    private boolean dryRun;
+
+    @Option(
+            names = {"-b", "--before"},
+            description = "Treat tasks due before this date as expired (dd/MM/yyyy, dd/MM/yyyy HH:mm or epoch millis, default: now)"
+    )
+    private String before;
+
     @Override
     public void run() {
 
@@ -53,23 +61,20 @@ public class CleanupCommand implements Runnable {
             return;
         }
 
-        TaskDAO dao = new TaskDAO();
-        int removed = 0;
-
-        if (all) {
-
-            if (!confirm("Remove ALL expired tasks from this collection? (y/n): ")) {
-                System.out.println("Operation cancelled.");
+        long cutoff = System.currentTimeMillis();
+        if (before != null) {
+            try {
+                cutoff = Timestamps.parse(before);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
                 return;
             }
+        }
 
-            for (String s : VALID_STATUSES) {
-                removed += removeExpiredByStatus(dao, s);
-            }
-
-        } else {
+        String normalized = null;
 
-            String normalized = status.trim().toLowerCase();
+        if (!all) {
+            normalized = status.trim().toLowerCase();
 
             if (!VALID_STATUSES.contains(normalized)) {
                 System.err.println(
@@ -78,40 +83,39 @@ public class CleanupCommand implements Runnable {
                 );
                 return;
             }
+        }
 
-            if (!confirm("Remove expired tasks with status '" + normalized + "'? (y/n): ")) {
-                System.out.println("Operation cancelled.");
-                return;
-            }
+        TaskDAO dao = new TaskDAO();
+        int collectionId = Context.getActiveCollection().getId();
 
-            removed = removeExpiredByStatus(dao, normalized);
+        if (dryRun) {
+            int count = dao.deleteExpired(collectionId, normalized, cutoff, true);
+            System.out.println(count + " expired task(s) would be removed.");
+            return;
         }
 
-        System.out.println(removed + " expired task(s) removed.");
-    }
+        String prompt = all
+                ? "Remove ALL expired tasks from this collection? (y/n): "
+                : "Remove expired tasks with status '" + normalized + "'? (y/n): ";
 
-    private int removeExpiredByStatus(TaskDAO dao, String status) {
-
-        List<Task> tasks = dao.getTasksByStatus(status);
-        int count = 0;
-        LocalDateTime now = LocalDateTime.now();
+        if (!confirm(prompt)) {
+            System.out.println("Operation cancelled.");
+            return;
+        }
 
-        for (Task task : tasks) {
-            if (task.getDueDate() != null &&
-                now.isAfter(task.getDueDate())) {
+        // One DELETE over the (collection_id, due_date) index
+        int removed = dao.deleteExpired(collectionId, normalized, cutoff, false);
 
-                dao.deleteTask(task.getId());
-                count++;
-            }
-        }
+        System.out.println(removed + " expired task(s) removed.");
 
-        return count;
+        // The removed tasks were logged for watchers, trim the log while here
+        dao.pruneChanges();
     }
 
     private boolean confirm(String message) {
         while (true) {
             System.out.print(message);
-            String input = SCANNER.nextLine().trim().toLowerCase();
+            String input = Stdin.nextLine().trim().toLowerCase();
 
             if (input.isEmpty() || input.equals("n") || input.equals("no")) {
                 return false;
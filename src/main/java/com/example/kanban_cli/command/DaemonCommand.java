@@ -0,0 +1,73 @@
+package com.example.kanban_cli.command;
+
+import java.io.IOException;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.daemon.DaemonClient;
+import com.example.kanban_cli.daemon.DaemonProtocol;
+import com.example.kanban_cli.daemon.DaemonServer;
+import com.example.kanban_cli.db.Database;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "daemon",
+        description = "Keep a warm process serving kanban commands over a local socket"
+)
+public class DaemonCommand implements Runnable {
+
+    @Option(
+            names = {"--stop"},
+            description = "Stop the running daemon"
+    )
+    private boolean stop;
+
+    @Option(
+            names = {"--status"},
+            description = "Show whether a daemon is running"
+    )
+    private boolean status;
+
+    @Override
+    public void run() {
+
+        if (stop && status) {
+            System.err.println("Cannot use --stop and --status together.");
+            return;
+        }
+
+        if (stop) {
+            if (DaemonClient.stop()) {
+                System.out.println("Daemon stopped.");
+            } else {
+                System.err.println("No daemon is running.");
+            }
+            return;
+        }
+
+        if (status) {
+            System.out.println(DaemonClient.isRunning()
+                    ? "Daemon is running on " + DaemonProtocol.SOCKET_PATH.toAbsolutePath()
+                    : "No daemon is running.");
+            return;
+        }
+
+        if (DaemonClient.isRunning()) {
+            System.err.println("A daemon is already running on " + DaemonProtocol.SOCKET_PATH.toAbsolutePath());
+            return;
+        }
+
+        // Open the connection and load the active collection before the first request
+        Database.getInstance();
+        Context.getActiveCollection();
+
+        System.out.println("Daemon listening on " + DaemonProtocol.SOCKET_PATH.toAbsolutePath());
+
+        try {
+            new DaemonServer(DaemonProtocol.SOCKET_PATH).serve();
+        } catch (IOException e) {
+            System.err.println("Daemon error: " + e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.kanban_cli.command;
 
 import java.util.List;
-import java.util.Scanner;
 import java.util.Set;
 
 import com.example.kanban_cli.Context;
+import com.example.kanban_cli.Stdin;
 import com.example.kanban_cli.db.CollectionDAO;
 import com.example.kanban_cli.db.TaskDAO;
 import com.example.kanban_cli.model.Collection;
@@ -48,8 +48,6 @@ public class DeleteCommand implements Runnable {
     )
     private List<String> nameParts;
 
-    private static final Scanner SCANNER = new Scanner(System.in);
-
     @Override
     public void run() {
         try {
@@ -69,7 +67,6 @@ public class DeleteCommand implements Runnable {
     // collection deletion logic
     private void deleteCollection() {
         CollectionDAO collectionDAO = new CollectionDAO();
-        TaskDAO taskDAO = new TaskDAO();
 
         // Validation checks
         if (status != null) {
@@ -83,12 +80,15 @@ public class DeleteCommand implements Runnable {
                 return;
             }
 
-            for (Collection c : collectionDAO.getAllCollections()) {
-                taskDAO.deleteByCollectionId(c.getId());
-                collectionDAO.deleteCollection(c.getId());
+            CollectionDAO.Deleted deleted = collectionDAO.deleteAllCollections();
+            Context.invalidate();
+            if (deleted == null) {
+                return;
             }
 
-            System.out.println("All collections deleted.");
+            System.out.println("Deleted " + deleted.collections() + " collection(s)"
+                    + (deleted.archivedTasks() > 0 ? ", " : " and ")
+                    + deleted.tasks() + " task(s)" + archivedNote(deleted) + ".");
             return;
         }
 
@@ -97,7 +97,7 @@ public class DeleteCommand implements Runnable {
             return;
         }
 
-        Collection collection = collectionDAO.getCollectionByName(name);
+        Collection collection = collectionDAO.getCollectionByName(name, false);
         if (collection == null) {
             System.err.println("Collection '" + name + "' not found.");
             return;
@@ -108,40 +108,48 @@ public class DeleteCommand implements Runnable {
             return;
         }
 
-        taskDAO.deleteByCollectionId(collection.getId());
-        collectionDAO.deleteCollection(collection.getId());
-        System.out.println("Collection '" + name + "' deleted.");
+        CollectionDAO.Deleted deleted = collectionDAO.deleteCollection(collection.getId());
+        Context.invalidate();
+        if (deleted == null) {
+            return;
+        }
+
+        System.out.println("Collection '" + collection.getName() + "' deleted with "
+                + deleted.tasks() + " task(s)" + archivedNote(deleted) + ".");
+    }
+
+    // Archived tasks go with their collection too, named only when there were some
+    private String archivedNote(CollectionDAO.Deleted deleted) {
+        return deleted.archivedTasks() > 0 ? " and " + deleted.archivedTasks() + " archived task(s)" : "";
     }
 
     // task deletion logic
     private void deleteTask() {
 
         // Validation checks
-        if (!Context.hasActiveCollection()) {
-            System.err.println("No active collection. Use 'use <collection>' first.");
-            return;
-        }
-
         TaskDAO taskDAO = new TaskDAO();
 
         if (all) {
+            if (!Context.hasActiveCollection()) {
+                System.err.println("No active collection. Use 'use <collection>' first.");
+                return;
+            }
             deleteAllTasks(taskDAO);
             return;
         }
 
         String name = getNameOrFail("Task name is required.");
-        if (name == null) {
+        if (name == null || !TaskRefs.checkActiveCollection(name)) {
             return;
         }
 
-        Task task = taskDAO.getTaskByName(name);
+        Task task = TaskRefs.resolve(taskDAO, name);
         if (task == null) {
-            System.err.println("Task with name '" + name + "' not found in the active collection.");
             return;
         }
 
         taskDAO.deleteTask(task.getId());
-        System.out.println("Task '" + name + "' deleted.");
+        System.out.println("Task '" + task.getName() + "' deleted.");
     }
 
     // Delete all tasks or all tasks with a specific status
@@ -194,7 +202,7 @@ public class DeleteCommand implements Runnable {
     private boolean confirm(String message) {
         while (true) {
             System.out.print(message);
-            String input = SCANNER.nextLine().trim().toLowerCase();
+            String input = Stdin.nextLine().trim().toLowerCase();
 
             if (input.isEmpty() || input.equals("n") || input.equals("no")) {
                 return false;
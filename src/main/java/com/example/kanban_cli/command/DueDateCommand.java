@@ -6,11 +6,11 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 
-import com.example.kanban_cli.Context;
 import com.example.kanban_cli.db.TaskDAO;
 import com.example.kanban_cli.model.Task;
 
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
@@ -41,21 +41,24 @@ public class DueDateCommand implements Runnable {
     )
     private List<String> nameParts;
 
+    @Mixin
+    private FormatOption formatOption;
+
     @Override
     public void run() {
 
         // Validation checks
-        
-        if (!Context.hasActiveCollection()) {
-            System.err.println("No active collection. Use 'use <collection-name>' first.");
-            return;
-        }
 
         if (nameParts == null || nameParts.isEmpty()) {
             System.err.println("No task name specified.");
             return;
         }
 
+        String taskName = String.join(" ", nameParts);
+        if (!TaskRefs.checkActiveCollection(taskName)) {
+            return;
+        }
+
         if (removeDueDate && setDueDate != null) {
             System.err.println("Cannot use --set and --remove together.");
             return;
@@ -78,13 +81,9 @@ public class DueDateCommand implements Runnable {
         }
         
         TaskDAO taskDAO = new TaskDAO();
-        String taskName = String.join(" ", nameParts);
-        Task task = taskDAO.getTaskByName(taskName);
+        Task task = TaskRefs.resolve(taskDAO, taskName);
 
         if (task == null) {
-            System.err.println(
-                    "Task with name '" + taskName + "' not found in the active collection."
-            );
             return;
         }
 
@@ -132,8 +131,7 @@ public class DueDateCommand implements Runnable {
         // If we made changes, update the task in the database
         if (updated) {
             taskDAO.updateTask(task);
-            System.out.println("Task updated successfully!");
-            System.out.println(task);
+            formatOption.print("Task updated successfully!", task);
         }
     }
 }
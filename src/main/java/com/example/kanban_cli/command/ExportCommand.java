@@ -0,0 +1,191 @@
+package com.example.kanban_cli.command;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.CollectionDAO;
+import com.example.kanban_cli.db.TaskDAO;
+import com.example.kanban_cli.io.CsvWriter;
+import com.example.kanban_cli.io.JsonLinesWriter;
+import com.example.kanban_cli.io.RecordWriter;
+import com.example.kanban_cli.io.SqlWriter;
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Timestamps;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "export",
+        description = "Export tasks as JSONL, CSV or SQL"
+)
+public class ExportCommand implements Runnable {
+
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    @Option(
+            names = {"-c", "--collection"},
+            description = "Collection to export (default: the active collection)"
+    )
+    private String collectionName;
+
+    @Option(
+            names = {"-a", "--all"},
+            description = "Export every collection"
+    )
+    private boolean all;
+
+    @Option(
+            names = {"-f", "--format"},
+            description = "Output format: jsonl, csv or sql (default: jsonl)",
+            defaultValue = "jsonl"
+    )
+    private String format;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "File to write (default: stdout)"
+    )
+    private String output;
+
+    @Option(
+            names = {"--since"},
+            description = "Only tasks created or updated since this time (dd/MM/yyyy, dd/MM/yyyy HH:mm or epoch millis)"
+    )
+    private String since;
+
+    @Option(
+            names = {"--include-archived"},
+            description = "Export archived tasks as well as those on the board"
+    )
+    private boolean includeArchived;
+
+    @Override
+    public void run() {
+
+        // Validation checks
+
+        if (all && collectionName != null) {
+            System.err.println("Cannot use --all and --collection together.");
+            return;
+        }
+
+        String resolvedFormat = format.trim().toLowerCase(Locale.ROOT);
+        if (!resolvedFormat.equals("jsonl") && !resolvedFormat.equals("csv") && !resolvedFormat.equals("sql")) {
+            System.err.println("Invalid format. Use: jsonl, csv, sql.");
+            return;
+        }
+
+        Long sinceMillis = null;
+        if (since != null) {
+            try {
+                sinceMillis = Timestamps.parse(since);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                return;
+            }
+        }
+
+        List<Collection> collections = selectCollections();
+        if (collections == null) {
+            return;
+        }
+
+        TaskDAO taskDAO = new TaskDAO();
+        long exported = 0;
+
+        // Stdout is flushed but left open, a file is closed when done
+        try (OutputStream out = output == null ? new KeepOpen(System.out) : Files.newOutputStream(Path.of(output));
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER)) {
+
+            RecordWriter records = switch (resolvedFormat) {
+                case "csv" -> new CsvWriter(writer);
+                case "sql" -> new SqlWriter(writer);
+                default -> new JsonLinesWriter(writer);
+            };
+
+            records.begin();
+            for (Collection collection : collections) {
+                records.collection(collection);
+
+                long count = taskDAO.forEachTask(collection.getId(), sinceMillis, includeArchived,
+                        task -> records.task(collection, task));
+                if (count < 0) {
+                    return;
+                }
+                exported += count;
+            }
+            records.end();
+
+        } catch (IOException e) {
+            System.err.println("Error writing export: " + e.getMessage());
+            return;
+        }
+
+        if (output != null) {
+            System.out.println("Exported " + exported + " task(s) from " + collections.size()
+                    + " collection(s) to " + output + ".");
+        }
+    }
+
+    // Helper methods
+
+    private List<Collection> selectCollections() {
+        CollectionDAO collectionDAO = new CollectionDAO();
+
+        if (all) {
+            return collectionDAO.getAllCollections(false);
+        }
+
+        if (collectionName != null) {
+            Collection collection = collectionDAO.getCollectionByName(collectionName.trim(), false);
+            if (collection == null) {
+                System.err.println("Collection '" + collectionName + "' not found.");
+                return null;
+            }
+            return List.of(collection);
+        }
+
+        if (!Context.hasActiveCollection()) {
+            System.err.println("No active collection. Use 'use <collection-name>', --collection or --all.");
+            return null;
+        }
+
+        // The context only holds the active collection's id and name, the
+        // export needs the full row for its timestamps
+        Collection active = collectionDAO.getCollectionByName(Context.getActiveCollection().getName(), false);
+        if (active == null) {
+            System.err.println("Collection '" + Context.getActiveCollection().getName() + "' not found.");
+            return null;
+        }
+        return List.of(active);
+    }
+
+    // Lets try-with-resources flush the writer chain without closing stdout
+    private static class KeepOpen extends FilterOutputStream {
+
+        KeepOpen(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
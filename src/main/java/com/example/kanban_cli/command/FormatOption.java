@@ -0,0 +1,46 @@
+package com.example.kanban_cli.command;
+
+import java.io.Writer;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.render.Renderer;
+
+import picocli.CommandLine.Option;
+
+// The --format option shared by every command that prints tasks or collections
+public class FormatOption {
+
+    @Option(
+            names = {"--format"},
+            description = "Output format: tree, table or compact (default: tree)",
+            defaultValue = "tree"
+    )
+    private Renderer.Format format;
+
+    // A buffered renderer over stdout, flushed when closed
+    Renderer open() {
+        return Renderer.stdout(format);
+    }
+
+    // A renderer over writer, nothing reaches stdout
+    Renderer open(Writer writer) {
+        return Renderer.to(writer, format);
+    }
+
+    // Print a confirmation line followed by the task
+    void print(String message, Task task) {
+        try (Renderer out = open()) {
+            out.line(message);
+            out.task(task);
+        }
+    }
+
+    // Print a confirmation line followed by the collection
+    void print(String message, Collection collection) {
+        try (Renderer out = open()) {
+            out.line(message);
+            out.collection(collection);
+        }
+    }
+}
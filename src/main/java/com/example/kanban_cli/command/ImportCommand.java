@@ -0,0 +1,247 @@
+package com.example.kanban_cli.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.TaskDAO;
+import com.example.kanban_cli.io.CsvReader;
+import com.example.kanban_cli.io.JsonLinesReader;
+import com.example.kanban_cli.io.RecordReader;
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+@Command(
+        name = "import",
+        description = "Import tasks from a CSV or JSONL file into the active collection"
+)
+public class ImportCommand implements Runnable {
+
+    private static final int READ_BUFFER = 1 << 16;
+
+    @Parameters(
+            index = "0",
+            description = "File to import, or '-' to read from stdin"
+    )
+    private String file;
+
+    @Option(
+            names = {"-f", "--format"},
+            description = "Input format: csv or jsonl (default: from the file extension)"
+    )
+    private String format;
+
+    @Option(
+            names = {"-b", "--batch-size"},
+            description = "Rows inserted per transaction (default: 1000)",
+            defaultValue = "1000"
+    )
+    private int batchSize;
+
+    @Override
+    public void run() {
+
+        // Validation checks
+
+        if (!Context.hasActiveCollection()) {
+            System.err.println("No active collection. Use 'use <collection-name>' first.");
+            return;
+        }
+
+        if (batchSize < 1) {
+            System.err.println("Batch size must be at least 1.");
+            return;
+        }
+
+        String resolvedFormat = resolveFormat();
+        if (resolvedFormat == null) {
+            return;
+        }
+
+        TaskDAO taskDAO = new TaskDAO();
+        int collectionId = Context.getActiveCollection().getId();
+
+        long start = System.nanoTime();
+        long rows = 0;
+        int imported = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        List<Task> batch = new ArrayList<>(Math.min(batchSize, 10_000));
+        // Folded names of the pending batch only; earlier batches are already
+        // saved, so the per-batch lookup in flush catches repeats of them
+        Set<String> batchNames = new HashSet<>();
+
+        boolean failed = false;
+
+        try (RecordReader reader = open(resolvedFormat)) {
+            while (true) {
+                // Every row counts once, whether the reader or the model rejects it
+                Map<String, String> record;
+                try {
+                    record = reader.next();
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Line " + reader.line() + ": " + e.getMessage());
+                    rows++;
+                    rejected++;
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                rows++;
+
+                Task task;
+                try {
+                    task = toTask(record, collectionId);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Line " + reader.line() + ": " + e.getMessage());
+                    rejected++;
+                    continue;
+                }
+
+                if (!batchNames.add(TaskDAO.foldName(task.getName()))) {
+                    duplicates++;
+                    continue;
+                }
+
+                batch.add(task);
+                if (batch.size() == batchSize) {
+                    int dropped = flush(taskDAO, collectionId, batch);
+                    if (dropped < 0) {
+                        failed = true;
+                        break;
+                    }
+                    duplicates += dropped;
+                    imported += batch.size();
+                    batch.clear();
+                    batchNames.clear();
+                }
+            }
+
+        } catch (IOException e) {
+            System.err.println("Error reading " + file + ": " + e.getMessage());
+        }
+
+        // Rows parsed before a read error are still saved
+        if (!failed && !batch.isEmpty()) {
+            int dropped = flush(taskDAO, collectionId, batch);
+            if (dropped >= 0) {
+                duplicates += dropped;
+                imported += batch.size();
+            }
+        }
+
+        double seconds = Math.max((System.nanoTime() - start) / 1_000_000_000.0, 1e-9);
+        System.out.printf(Locale.ROOT, "Imported %d task(s), skipped %d duplicate(s), rejected %d invalid row(s).%n",
+                imported, duplicates, rejected);
+        System.out.printf(Locale.ROOT, "%d row(s) read in %.2f s (%.0f rows/s).%n", rows, seconds, rows / seconds);
+    }
+
+    // Helper methods
+
+    // Drop the batch's tasks whose names the collection already has, then save
+    // the rest. Returns the number of tasks dropped, or -1 if the batch failed
+    private int flush(TaskDAO taskDAO, int collectionId, List<Task> batch) {
+        Set<String> existing = taskDAO.findExistingNames(collectionId, batch.stream().map(Task::getName).toList());
+        if (existing == null) {
+            System.err.println("Import stopped: a batch of " + batch.size() + " task(s) could not be checked.");
+            return -1;
+        }
+        int size = batch.size();
+        if (!existing.isEmpty()) {
+            batch.removeIf(task -> existing.contains(TaskDAO.foldName(task.getName())));
+        }
+        if (batch.isEmpty()) {
+            return size;
+        }
+
+        int inserted = taskDAO.insertBatch(batch);
+        if (inserted != batch.size()) {
+            System.err.println("Import stopped: a batch of " + batch.size() + " task(s) could not be saved.");
+            return -1;
+        }
+        return size - batch.size();
+    }
+
+    // Build a task through the model setters so imported rows follow the same rules as 'new task'
+    private Task toTask(Map<String, String> record, int collectionId) {
+        String name = record.get("name");
+        Task task = new Task(name);
+        task.setName(name);
+        task.setCollectionId(collectionId);
+
+        String status = record.get("status");
+        if (status != null && !status.isBlank()) {
+            task.setStatus(status);
+        }
+
+        String createdAt = record.get("created_at");
+        if (createdAt != null && !createdAt.isBlank()) {
+            task.setCreatedAtMillis(Timestamps.parse(createdAt));
+        }
+
+        String updatedAt = record.get("updated_at");
+        if (updatedAt != null && !updatedAt.isBlank()) {
+            task.setUpdatedAtMillis(Timestamps.parse(updatedAt));
+        }
+
+        String dueDate = record.get("due_date");
+        if (dueDate != null && !dueDate.isBlank()) {
+            task.setDueDateMillis(Timestamps.parse(dueDate));
+        }
+
+        // Exported with --include-archived: goes back to the archive, not the board
+        String archivedAt = record.get("archived_at");
+        if (archivedAt != null && !archivedAt.isBlank()) {
+            task.setArchivedAtMillis(Timestamps.parse(archivedAt));
+        }
+
+        return task;
+    }
+
+    private String resolveFormat() {
+        String value = format;
+        if (value == null) {
+            String lower = file.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                value = "csv";
+            } else if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson") || lower.endsWith(".json")) {
+                value = "jsonl";
+            } else {
+                System.err.println("Cannot tell the format of '" + file + "'. Use --format csv or --format jsonl.");
+                return null;
+            }
+        }
+
+        value = value.trim().toLowerCase(Locale.ROOT);
+        if (!value.equals("csv") && !value.equals("jsonl")) {
+            System.err.println("Invalid format. Use: csv, jsonl.");
+            return null;
+        }
+        return value;
+    }
+
+    private RecordReader open(String resolvedFormat) throws IOException {
+        InputStream in = file.equals("-") ? System.in : Files.newInputStream(Path.of(file));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), READ_BUFFER);
+
+        return resolvedFormat.equals("csv")
+                ? new CsvReader(reader)
+                : new JsonLinesReader(reader);
+    }
+}
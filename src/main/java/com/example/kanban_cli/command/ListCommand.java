@@ -1,15 +1,35 @@
 package com.example.kanban_cli.command;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.SQLException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.ChangeMark;
 import com.example.kanban_cli.db.CollectionDAO;
+import com.example.kanban_cli.db.Database;
+import com.example.kanban_cli.db.PageCursor;
+import com.example.kanban_cli.db.RowHandler;
+import com.example.kanban_cli.db.TaskChange;
+import com.example.kanban_cli.db.TaskCursor;
 import com.example.kanban_cli.db.TaskDAO;
 import com.example.kanban_cli.model.Collection;
 import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.render.BoardLayout;
+import com.example.kanban_cli.render.Renderer;
 
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
@@ -22,6 +42,20 @@ public class ListCommand implements Runnable {
     private static final Set<String> VALID_STATUSES
             = Set.of("todo", "in_progress", "done");
 
+    // Status sections in the order they are printed
+    private static final List<String> STATUS_ORDER = List.of("todo", "in_progress", "done");
+
+    // Rows per --board page when no --limit is given, about one screen
+    private static final int BOARD_ROWS = 40;
+    private static final int DEFAULT_WIDTH = 120;
+
+    // Cursor home and clear screen, so each refresh of --watch replaces the last
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+
+    // Order of tasks within a listed section, newest first
+    private static final Comparator<Task> LIST_ORDER
+            = Comparator.comparingLong(Task::getCreatedAtMillis).thenComparingInt(Task::getId).reversed();
+
     @Parameters(
             index = "0",
             description = "Type to list: collection or task"
@@ -34,8 +68,65 @@ public class ListCommand implements Runnable {
     )
     private String status;
 
+    @Option(
+            names = {"--no-counts"},
+            description = "List collection names only, without per-status task counts"
+    )
+    private boolean noCounts;
+
+    @Option(
+            names = {"-n", "--limit"},
+            description = "Show at most this many tasks, then print a cursor for the next page"
+    )
+    private Integer limit;
+
+    @Option(
+            names = {"--after"},
+            description = "Continue listing after the cursor printed at the end of the previous page"
+    )
+    private String after;
+
+    @Option(
+            names = {"--include-archived"},
+            description = "List archived tasks as well as those on the board"
+    )
+    private boolean includeArchived;
+
+    @Option(
+            names = {"--board"},
+            description = "Show Todo, In Progress and Done side by side, one screen of rows per page"
+    )
+    private boolean board;
+
+    @Option(
+            names = {"--width"},
+            description = "Board width in characters (default: $COLUMNS, or 120)"
+    )
+    private Integer width;
+
+    @Option(
+            names = {"--watch"},
+            description = "Keep the task list on screen and redraw it when another process changes the tasks"
+    )
+    private boolean watch;
+
+    @Option(
+            names = {"--interval"},
+            description = "Seconds between checks for changes with --watch (default: 2)",
+            defaultValue = "2"
+    )
+    private double interval;
+
+    @Mixin
+    private FormatOption formatOption;
+
+    // Everything listed goes through one buffered renderer, flushed once at the end
+    private Renderer out;
+
     @Override
     public void run() {
+        out = formatOption.open();
+
         try {
             switch (type.toLowerCase().trim()) {
                 case "collection" ->
@@ -47,53 +138,360 @@ public class ListCommand implements Runnable {
             }
         } catch (Exception e) {
             System.err.println("Error listing: " + e.getMessage());
+        } finally {
+            out.close();
         }
     }
 
     // Collection listing logic
     private void listCollections() {
         CollectionDAO collectionDAO = new CollectionDAO();
-        List<Collection> collections = collectionDAO.getAllCollections();
+        List<Collection> collections = collectionDAO.getAllCollections(!noCounts);
 
         if (collections.isEmpty()) {
-            System.out.println("No collections found.");
-            System.out.println("Create one using: kanban new collection <name>");
+            out.line("No collections found.");
+            out.line("Create one using: kanban new collection <name>");
             return;
         }
 
-        System.out.println("Collections:");
-        collections.forEach(c -> System.out.println(" - " + c.getName()));
+        out.line("Collections:");
+        for (Collection collection : collections) {
+            if (out.format() != Renderer.Format.TREE) {
+                out.collection(collection);
+            } else if (noCounts) {
+                out.line(" - " + collection.getName());
+            } else {
+                out.line(" - " + collection.getName() + " (" + collection.getCountSummary() + ")");
+            }
+        }
     }
 
-    // Task listing logic with optional status filtering
+    // Task listing logic with optional status filtering, streamed from the
+    // database one page at a time
     private void listTasks() {
         if (!Context.hasActiveCollection()) {
             System.err.println("No active collection. Use 'use <collection>' first.");
             return;
         }
 
-        TaskDAO taskDAO = new TaskDAO();
-        List<Task> tasks = taskDAO.getAllTasks();
+        String normalizedStatus = null;
+        if (status != null && !status.isBlank()) {
+            normalizedStatus = normalizeStatus(status);
+            if (normalizedStatus == null) {
+                return;
+            }
+        }
+
+        if (limit != null && limit < 1) {
+            System.err.println("Limit must be at least 1.");
+            return;
+        }
 
-        if (tasks.isEmpty()) {
-            System.out.println("No tasks found in this collection.");
+        if (board) {
+            if (normalizedStatus != null || watch) {
+                System.err.println("--board shows every status and cannot be used with --status or --watch.");
+                return;
+            }
+            listBoard(Context.getActiveCollection());
             return;
         }
 
-        String normalizedStatus = normalizeStatus(status);
+        PageCursor cursor = null;
+        if (after != null) {
+            try {
+                cursor = PageCursor.parse(after);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                return;
+            }
+        }
 
-        System.out.println(
-                "Tasks in collection '" + Context.getActiveCollection().getName() + "':\n"
-        );
+        Collection active = Context.getActiveCollection();
+
+        if (watch) {
+            if (cursor != null || interval <= 0) {
+                System.err.println("--watch needs a positive --interval and cannot be used with --after.");
+                return;
+            }
+            watchTasks(active, normalizedStatus);
+            return;
+        }
+
+        // Emptiness comes from collection_stats instead of reading the tasks.
+        // The stats only count the board, so archived tasks are always read.
+        List<Collection> stats = new CollectionDAO().getStats(active.getId(), false);
+        if (cursor == null && !includeArchived && (stats.isEmpty() || stats.get(0).getTasks() == 0)) {
+            out.line("No tasks found in this collection.");
+            return;
+        }
+
+        out.line("Tasks in collection '" + active.getName() + "':");
+        out.blank();
+
+        TaskDAO taskDAO = new TaskDAO();
+        boolean paged = limit != null || cursor != null;
 
         if (normalizedStatus != null) {
-            printTasksByStatus(tasks, normalizedStatus, formatLabel(normalizedStatus));
+            printPage(out, taskDAO, active.getId(), normalizedStatus, formatLabel(normalizedStatus), cursor);
+        } else if (paged) {
+            // A page spans all statuses in (created_at, id) order
+            printPage(out, taskDAO, active.getId(), null, null, cursor);
+        } else {
+            for (String statusKey : STATUS_ORDER) {
+                printPage(out, taskDAO, active.getId(), statusKey, formatLabel(statusKey), null);
+            }
+        }
+    }
+
+    // Todo, In Progress and Done side by side. Each column reads its own cursor
+    // over the (collection_id, status, created_at) index and a row is printed
+    // as soon as its three cells are read, so only one row of tasks is held
+    // however long the columns are. A page stops after --limit rows and ends
+    // with one cursor per column, "end" for a column with nothing left.
+    private void listBoard(Collection active) {
+        int columns = STATUS_ORDER.size();
+        PageCursor[] starts = new PageCursor[columns];
+        boolean[] ended = new boolean[columns];
+        if (after != null && !parseBoardCursor(after, starts, ended)) {
             return;
         }
 
-        printTasksByStatus(tasks, "todo", "Todo");
-        printTasksByStatus(tasks, "in_progress", "In Progress");
-        printTasksByStatus(tasks, "done", "Done");
+        int rows = limit != null ? limit : BOARD_ROWS;
+        CollectionDAO collectionDAO = new CollectionDAO();
+        Collection counts = readCounts(collectionDAO, active.getId());
+        // The stats leave the archive out, so its rows are counted on their own
+        Map<String, Integer> archived = includeArchived ? collectionDAO.getArchivedCounts(active.getId()) : Map.of();
+        String[] titles = new String[columns];
+        for (int i = 0; i < columns; i++) {
+            String statusKey = STATUS_ORDER.get(i);
+            int archivedCount = archived.getOrDefault(statusKey, 0);
+            titles[i] = formatLabel(statusKey) + " (" + countOf(counts, statusKey)
+                    + (archivedCount > 0 ? " + " + archivedCount + " archived" : "") + ")";
+        }
+
+        TaskDAO taskDAO = new TaskDAO();
+        TaskCursor[] cursors = new TaskCursor[columns];
+        Task[] last = new Task[columns];
+        boolean[] more = new boolean[columns];
+
+        try {
+            // One extra row per column tells whether another page follows
+            for (int i = 0; i < columns; i++) {
+                if (!ended[i]) {
+                    cursors[i] = taskDAO.openTaskPage(active.getId(), STATUS_ORDER.get(i), starts[i], rows + 1,
+                            includeArchived);
+                    if (cursors[i] == null) {
+                        return;
+                    }
+                }
+            }
+
+            out.line("Tasks in collection '" + active.getName() + "':");
+            out.blank();
+            BoardLayout layout = new BoardLayout(out, columns, width != null ? width : terminalWidth());
+            layout.header(titles);
+
+            Task[] cells = new Task[columns];
+            for (int row = 0; row < rows; row++) {
+                boolean any = false;
+                for (int i = 0; i < columns; i++) {
+                    cells[i] = cursors[i] != null ? cursors[i].next() : null;
+                    if (cells[i] != null) {
+                        last[i] = cells[i];
+                        any = true;
+                    }
+                }
+                if (!any) {
+                    break;
+                }
+                layout.row(cells);
+            }
+
+            String[] notes = new String[columns];
+            boolean anyMore = false;
+            for (int i = 0; i < columns; i++) {
+                more[i] = cursors[i] != null && cursors[i].next() != null;
+                notes[i] = more[i] ? "(more)" : null;
+                anyMore |= more[i];
+            }
+
+            if (anyMore) {
+                layout.footer(notes);
+                StringBuilder next = new StringBuilder("More tasks: --board --after ");
+                for (int i = 0; i < columns; i++) {
+                    next.append(i > 0 ? "," : "").append(more[i] ? PageCursor.of(last[i]) : "end");
+                }
+                out.blank();
+                out.line(next);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error listing tasks: " + e.getMessage());
+        } finally {
+            for (TaskCursor cursor : cursors) {
+                closeQuietly(cursor);
+            }
+        }
+    }
+
+    // "<cursor>,<cursor>,<cursor>" as printed after a board page, one per column
+    private boolean parseBoardCursor(String text, PageCursor[] starts, boolean[] ended) {
+        String[] parts = text.split(",", -1);
+        if (parts.length != starts.length) {
+            System.err.println("Invalid board cursor '" + text + "'. Use the value printed after the last page.");
+            return false;
+        }
+
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i].trim().equals("end")) {
+                    ended[i] = true;
+                } else {
+                    starts[i] = PageCursor.parse(parts[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    // Shells export COLUMNS only on request, so fall back to a common width
+    private int terminalWidth() {
+        try {
+            String columns = System.getenv("COLUMNS");
+            return columns != null ? Integer.parseInt(columns.trim()) : DEFAULT_WIDTH;
+        } catch (NumberFormatException e) {
+            return DEFAULT_WIDTH;
+        }
+    }
+
+    private void closeQuietly(TaskCursor cursor) {
+        if (cursor == null) {
+            return;
+        }
+        try {
+            cursor.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing task cursor: " + e.getMessage());
+        }
+    }
+
+    // Redraw the list whenever another process commits. While nothing changes
+    // each check is one PRAGMA data_version. After a commit only the tasks past
+    // the mark are read, new ids and later change log entries, and each one is
+    // patched into the sections held in memory: taken out of the section it
+    // was in and put where it now sorts. Only the sections it touched are
+    // formatted again. A section cut off by --limit that loses a row is read
+    // again, as that is the one case where rows past the page come into view.
+    private void watchTasks(Collection active, String onlyStatus) {
+        List<String> shown = onlyStatus != null ? List.of(onlyStatus) : STATUS_ORDER;
+        Database database = Database.getInstance();
+        TaskDAO taskDAO = new TaskDAO();
+        long sleepMillis = Math.max(1, Math.round(interval * 1000));
+
+        // The mark is read before the sections: a change committed while they
+        // load is applied again on the first check, which leaves them as is
+        ChangeMark mark = taskDAO.changeMark();
+        if (mark == null) {
+            return;
+        }
+
+        Map<String, WatchedSection> sections = new LinkedHashMap<>();
+        for (String statusKey : shown) {
+            WatchedSection section = new WatchedSection(limit);
+            section.incomplete = true;
+            sections.put(statusKey, section);
+        }
+        Set<String> dirty = new HashSet<>(shown);
+
+        try {
+            long version = database.dataVersion();
+
+            while (true) {
+                for (String statusKey : dirty) {
+                    WatchedSection section = sections.get(statusKey);
+                    if (section.incomplete && !loadSection(taskDAO, active.getId(), statusKey, section)) {
+                        return;
+                    }
+                    section.text = renderSection(statusKey, section);
+                }
+                drawBoard(active, shown, sections);
+
+                dirty.clear();
+                while (dirty.isEmpty()) {
+                    Thread.sleep(sleepMillis);
+
+                    long current = database.dataVersion();
+                    if (current == version) {
+                        continue;
+                    }
+                    version = current;
+
+                    ChangePatcher patcher = new ChangePatcher(sections, mark, dirty);
+                    if (taskDAO.forEachChangedTask(active.getId(), mark, includeArchived, patcher) < 0) {
+                        return;
+                    }
+                    mark = patcher.mark;
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException | IOException e) {
+            System.err.println("Error watching tasks: " + e.getMessage());
+        }
+    }
+
+    // Read the section's first page, one row past --limit to know whether more follow
+    private boolean loadSection(TaskDAO taskDAO, int collectionId, String statusKey, WatchedSection section)
+            throws IOException {
+        section.clear();
+        return taskDAO.forEachTaskPage(collectionId, statusKey, null, limit != null ? limit + 1 : -1,
+                includeArchived, section) >= 0;
+    }
+
+    // One status section formatted as printPage would print it, kept for later refreshes
+    private String renderSection(String statusKey, WatchedSection section) {
+        StringWriter text = new StringWriter();
+        try (Renderer out = formatOption.open(text)) {
+            out.section(formatLabel(statusKey));
+            for (Task task : section.tasks) {
+                out.task(task);
+            }
+            Task last = section.tasks.isEmpty() ? null : section.tasks.get(section.tasks.size() - 1);
+            endPage(out, section.tasks.size(), last, section.more);
+        }
+        return text.toString();
+    }
+
+    private void drawBoard(Collection active, List<String> shown, Map<String, WatchedSection> sections) {
+        out.text(CLEAR_SCREEN);
+        out.line("Tasks in collection '" + active.getName() + "' (updated "
+                + LocalTime.now().withNano(0) + ", Ctrl+C to stop):");
+        out.blank();
+        for (String statusKey : shown) {
+            out.text(sections.get(statusKey).text);
+        }
+        out.flush();
+    }
+
+    // Per-status task counts of the collection, all zero once it is deleted
+    private Collection readCounts(CollectionDAO collectionDAO, int collectionId) {
+        List<Collection> stats = collectionDAO.getStats(collectionId, false);
+        return stats.isEmpty() ? new Collection(null) : stats.get(0);
+    }
+
+    private int countOf(Collection counts, String statusKey) {
+        return switch (statusKey) {
+            case "todo" ->
+                counts.getTodoCount();
+            case "in_progress" ->
+                counts.getInProgressCount();
+            default ->
+                counts.getDoneCount();
+        };
     }
 
     // Helper methods
@@ -111,21 +509,156 @@ public class ListCommand implements Runnable {
         return normalized;
     }
 
-    private void printTasksByStatus(List<Task> tasks, String statusKey, String label) {
-        System.out.println("-- " + label + ":");
+    // Print one page as it streams off the cursor. One extra row is fetched to
+    // know whether another page follows, and its cursor is printed if so.
+    private void printPage(Renderer out, TaskDAO taskDAO, int collectionId, String statusKey, String label,
+            PageCursor cursor) {
+        if (label != null) {
+            out.section(label);
+        }
+
+        PagePrinter printer = new PagePrinter(out, limit != null ? limit : -1);
+        try {
+            taskDAO.forEachTaskPage(collectionId, statusKey, cursor, limit != null ? limit + 1 : -1,
+                    includeArchived, printer);
+        } catch (IOException e) {
+            System.err.println("Error printing tasks: " + e.getMessage());
+            return;
+        }
+
+        endPage(out, printer.printed, printer.last, printer.more);
+    }
+
+    private void endPage(Renderer out, int printed, Task last, boolean more) {
+        if (printed == 0) {
+            out.line("   No tasks found.");
+        }
+        if (more) {
+            out.line("   More tasks: --after " + PageCursor.of(last));
+        }
+        out.blank();
+    }
 
-        boolean found = false;
-        for (Task task : tasks) {
-            if (statusKey.equalsIgnoreCase(task.getStatus())) {
-                System.out.println("   " + task);
-                found = true;
+    private static class PagePrinter implements RowHandler<Task> {
+
+        private final Renderer out;
+        private final int pageSize;
+        private int printed;
+        private boolean more;
+        private Task last;
+
+        PagePrinter(Renderer out, int pageSize) {
+            this.out = out;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public void handle(Task task) {
+            if (printed == pageSize) {
+                more = true;
+                return;
             }
+            out.task(task);
+            last = task;
+            printed++;
+        }
+    }
+
+    // A status section as last drawn by --watch: its first page of tasks in
+    // list order, looked up by id when a change moves one out
+    private static class WatchedSection implements RowHandler<Task> {
+
+        private final Integer pageSize;
+        private final List<Task> tasks = new ArrayList<>();
+        private final Map<Integer, Task> byId = new HashMap<>();
+        private boolean more;
+        // Not read yet, or lost a row while tasks past the page were left out
+        private boolean incomplete;
+        private String text;
+
+        WatchedSection(Integer pageSize) {
+            this.pageSize = pageSize;
         }
 
-        if (!found) {
-            System.out.println("   No tasks found.");
+        void clear() {
+            tasks.clear();
+            byId.clear();
+            more = false;
+            incomplete = false;
+        }
+
+        // Rows as loaded, already in list order
+        @Override
+        public void handle(Task task) {
+            if (pageSize != null && tasks.size() == pageSize) {
+                more = true;
+                return;
+            }
+            tasks.add(task);
+            byId.put(task.getId(), task);
+        }
+
+        boolean remove(int taskId) {
+            Task old = byId.remove(taskId);
+            if (old == null) {
+                return false;
+            }
+            tasks.remove(Collections.binarySearch(tasks, old, LIST_ORDER));
+            incomplete |= more;
+            return true;
+        }
+
+        // Put the task where it sorts. Returns whether the drawn section changed,
+        // which it does not for a task past a page already marked as having more.
+        boolean insert(Task task) {
+            if (incomplete) {
+                return true;
+            }
+            int index = -Collections.binarySearch(tasks, task, LIST_ORDER) - 1;
+            if (pageSize != null && index >= pageSize) {
+                boolean changed = !more;
+                more = true;
+                return changed;
+            }
+            tasks.add(index, task);
+            byId.put(task.getId(), task);
+            if (pageSize != null && tasks.size() > pageSize) {
+                byId.remove(tasks.remove(tasks.size() - 1).getId());
+                more = true;
+            }
+            return true;
+        }
+    }
+
+    // Applies changes read from the change log to the sections they touch,
+    // noting those sections and moving the mark past the changes
+    private static class ChangePatcher implements RowHandler<TaskChange> {
+
+        private final Map<String, WatchedSection> sections;
+        private final Set<String> dirty;
+        private ChangeMark mark;
+
+        ChangePatcher(Map<String, WatchedSection> sections, ChangeMark mark, Set<String> dirty) {
+            this.sections = sections;
+            this.mark = mark;
+            this.dirty = dirty;
+        }
+
+        @Override
+        public void handle(TaskChange change) {
+            mark = mark.advance(change);
+            for (Map.Entry<String, WatchedSection> entry : sections.entrySet()) {
+                if (entry.getValue().remove(change.taskId())) {
+                    dirty.add(entry.getKey());
+                }
+            }
+
+            Task task = change.task();
+            WatchedSection section = task != null ? sections.get(task.getStatus()) : null;
+            if (section != null && section.insert(task)) {
+                dirty.add(task.getStatus());
+            }
         }
-        System.out.println();
     }
 
     private String formatLabel(String status) {
@@ -1,19 +1,26 @@
 package com.example.kanban_cli.command;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import com.example.kanban_cli.Context;
+import com.example.kanban_cli.Stdin;
 import com.example.kanban_cli.db.TaskDAO;
+import com.example.kanban_cli.db.TaskSelection;
 import com.example.kanban_cli.model.Task;
 
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 @Command(
     name = "move",
-    description = "Move one task or all tasks from one status to another"
+    description = "Move one task, a set of tasks, or all tasks from one status to another"
 )
 public class MoveCommand implements Runnable {
 
@@ -32,19 +39,44 @@ public class MoveCommand implements Runnable {
     )
     private List<String> rest;
 
-    private static final Scanner SCANNER = new Scanner(System.in);
+    @Option(
+        names = {"-t", "--task"},
+        description = "Task name or #<id> to move, repeatable"
+    )
+    private List<String> tasks = new ArrayList<>();
+
+    @Option(
+        names = {"-g", "--glob"},
+        description = "Move tasks whose name matches a glob (* and ?), repeatable"
+    )
+    private List<String> globs = new ArrayList<>();
+
+    @Option(
+        names = {"-r", "--regex"},
+        description = "Move tasks whose name matches a regular expression, repeatable"
+    )
+    private List<String> regexes = new ArrayList<>();
+
+    @Option(
+        names = {"-y", "--yes"},
+        description = "Move the tasks matched by -g/-r without asking first"
+    )
+    private boolean yes;
+
+    @Mixin
+    private FormatOption formatOption;
 
     @Override
     public void run() {
 
-        if (!Context.hasActiveCollection()) {
-            System.err.println("No active collection. Use 'use <collection-name>' first.");
-            return;
-        }
-
         TaskDAO taskDAO = new TaskDAO();
 
         if (all) {
+            if (!Context.hasActiveCollection()) {
+                System.err.println("No active collection. Use 'use <collection-name>' first.");
+                return;
+            }
+
             // move --all <fromStatus> <toStatus>
             if (rest == null || rest.size() != 1) {
                 System.err.println("Usage: move --all <fromStatus> <toStatus>");
@@ -83,10 +115,19 @@ public class MoveCommand implements Runnable {
                 "' to '" + toStatus + "'."
             );
 
+        } else if (isMultiple()) {
+            // move <newStatus> #<id> #<id>... | -t <task>... | -g <glob> | -r <regex>
+            TaskStatus newStatus = parseStatus(first);
+            if (newStatus == null) {
+                System.err.println("Invalid status. Use: todo, in_progress, done.");
+                return;
+            }
+            moveSelected(taskDAO, newStatus);
+
         } else {
             // move <newStatus> <task name...>
             if (rest == null || rest.isEmpty()) {
-                System.err.println("Usage: move <newStatus> <task name>");
+                System.err.println("Usage: move <newStatus> <task name>, or -t/-g/-r for several tasks");
                 return;
             }
 
@@ -97,12 +138,12 @@ public class MoveCommand implements Runnable {
             }
 
             String taskName = String.join(" ", rest);
+            if (!TaskRefs.checkActiveCollection(taskName)) {
+                return;
+            }
 
-            Task task = taskDAO.getTaskByName(taskName);
+            Task task = TaskRefs.resolve(taskDAO, taskName);
             if (task == null) {
-                System.err.println(
-                    "Task with name '" + taskName + "' not found in the active collection."
-                );
                 return;
             }
 
@@ -117,10 +158,7 @@ public class MoveCommand implements Runnable {
                 task.setStatus(newStatus.name());
                 taskDAO.updateTask(task);
 
-                System.out.println(
-                    "Task '" + task.getName() + "' moved to '" + newStatus + "'."
-                );
-                System.out.println(task);
+                formatOption.print("Task '" + task.getName() + "' moved to '" + newStatus + "'.", task);
 
             } catch (IllegalArgumentException e) {
                 System.err.println(e.getMessage());
@@ -130,6 +168,120 @@ public class MoveCommand implements Runnable {
 
     // Helper methods
 
+    // Several tasks are moved when any selection option is given, or when
+    // every word is a #<id>: "move done #3 #5 #9"
+    private boolean isMultiple() {
+        if (!tasks.isEmpty() || !globs.isEmpty() || !regexes.isEmpty()) {
+            return true;
+        }
+        return rest != null && rest.size() > 1 && rest.stream().allMatch(TaskRefs::isId);
+    }
+
+    private void moveSelected(TaskDAO taskDAO, TaskStatus newStatus) {
+        List<Integer> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        List<String> references = new ArrayList<>(tasks);
+        if (rest != null && !rest.isEmpty()) {
+            if (rest.stream().allMatch(TaskRefs::isId)) {
+                references.addAll(rest);
+            } else {
+                references.add(String.join(" ", rest));
+            }
+        }
+
+        for (String reference : references) {
+            if (!TaskRefs.isId(reference)) {
+                names.add(reference.trim());
+                continue;
+            }
+            try {
+                ids.add(Integer.parseInt(reference.trim().substring(1)));
+            } catch (NumberFormatException e) {
+                System.err.println("Task " + reference.trim() + " not found.");
+            }
+        }
+
+        for (String regex : regexes) {
+            try {
+                Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                System.err.println("Invalid regular expression '" + regex + "': " + e.getDescription());
+                return;
+            }
+        }
+
+        TaskSelection selection = new TaskSelection(ids, names, globs, regexes);
+        if (selection.isEmpty()) {
+            return;
+        }
+        if (selection.byName() && !Context.hasActiveCollection()) {
+            System.err.println("No active collection. Use 'use <collection-name>' first, or refer to tasks as #<id>.");
+            return;
+        }
+
+        int collectionId = selection.byName() ? Context.getActiveCollection().getId() : 0;
+
+        // A pattern can match the whole board, so its matches are shown and
+        // confirmed like --all, then exactly the confirmed tasks are moved
+        List<Task> matched;
+        if ((!globs.isEmpty() || !regexes.isEmpty()) && !yes) {
+            List<Task> preview = taskDAO.findSelected(selection, collectionId);
+            if (preview == null) {
+                return;
+            }
+            if (preview.isEmpty()) {
+                System.err.println("No tasks matched.");
+                return;
+            }
+            if (!confirm("Move " + preview.size() + " matching task(s) to '" + newStatus + "'? (y/n): ")) {
+                System.out.println("Operation cancelled.");
+                return;
+            }
+
+            List<Integer> previewIds = new ArrayList<>(preview.size());
+            for (Task task : preview) {
+                previewIds.add(task.getId());
+            }
+            matched = taskDAO.moveTasks(previewIds, newStatus.name());
+        } else {
+            matched = taskDAO.moveSelected(selection, collectionId, newStatus.name());
+        }
+
+        if (matched == null) {
+            return;
+        }
+        if (matched.isEmpty()) {
+            System.err.println("No tasks matched.");
+            return;
+        }
+
+        // Report the ids and names that matched nothing
+        Set<Integer> foundIds = new HashSet<>();
+        Set<String> foundNames = new HashSet<>();
+        int already = 0;
+        for (Task task : matched) {
+            foundIds.add(task.getId());
+            foundNames.add(TaskDAO.foldName(task.getName()));
+            if (task.getStatus().equals(newStatus.name())) {
+                already++;
+            }
+        }
+        for (int id : ids) {
+            if (!foundIds.contains(id)) {
+                System.err.println("Task #" + id + " not found.");
+            }
+        }
+        for (String name : names) {
+            if (!foundNames.contains(TaskDAO.foldName(name))) {
+                System.err.println("Task with name '" + name + "' not found in the active collection.");
+            }
+        }
+
+        System.out.println((matched.size() - already) + " task(s) moved to '" + newStatus + "'"
+                + (already > 0 ? ", " + already + " already there." : "."));
+    }
+
     private TaskStatus parseStatus(String value) {
         if (value == null) return null;
 
@@ -143,7 +295,10 @@ public class MoveCommand implements Runnable {
     private boolean confirm(String message) {
         while (true) {
             System.out.print(message);
-            String input = SCANNER.nextLine().trim().toLowerCase();
+            if (!Stdin.hasNextLine()) {
+                return false;
+            }
+            String input = Stdin.nextLine().trim().toLowerCase();
 
             if (input.isEmpty() || input.equals("n") || input.equals("no")) {
                 return false;
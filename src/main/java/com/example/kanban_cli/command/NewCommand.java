@@ -12,6 +12,7 @@ import com.example.kanban_cli.model.Collection;
 import com.example.kanban_cli.model.Task;
 
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
@@ -47,6 +48,9 @@ public class NewCommand implements Runnable {
     )
     private String dueDate;
 
+    @Mixin
+    private FormatOption formatOption;
+
     @Override
     public void run() {
         try {
@@ -69,15 +73,14 @@ public class NewCommand implements Runnable {
         CollectionDAO collectionDAO = new CollectionDAO();
 
         // Check if already exists
-        if (collectionDAO.getCollectionByName(collectionName) != null) {
+        if (collectionDAO.getCollectionByName(collectionName, false) != null) {
             System.err.println("Collection with name '" + collectionName + "' already exists.");
             return;
         }
 
         Collection collection = new Collection(collectionName);
         collectionDAO.createCollection(collection);
-        System.out.println("Collection created successfully!");
-        System.out.println(collection);
+        formatOption.print("Collection created successfully!", collection);
     }
 
     // Task creation logic
@@ -126,7 +129,6 @@ public class NewCommand implements Runnable {
         
         // Save task to database
         taskDAO.createTask(task);
-        System.out.println("Task created successfully!");
-        System.out.println(task);
+        formatOption.print("Task created successfully!", task);
     }
 }
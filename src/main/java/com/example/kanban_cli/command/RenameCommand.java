@@ -9,6 +9,7 @@ import com.example.kanban_cli.model.Collection;
 import com.example.kanban_cli.model.Task;
 
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Parameters;
 
 @Command(
@@ -35,15 +36,13 @@ public class RenameCommand implements Runnable {
     )
     private List<String> newNameParts;
 
+    @Mixin
+    private FormatOption formatOption;
+
     @Override
     public void run() {
 
         // Validation checks
-        
-         if (!Context.hasActiveCollection()) {
-            System.err.println("No active collection. Use 'use <collection-name>' first.");
-            return;
-        }
 
         if (currentNameParts == null || currentNameParts.isEmpty()) {
             System.err.println("Current name not specified.");
@@ -71,14 +70,14 @@ public class RenameCommand implements Runnable {
         CollectionDAO collectionDAO = new CollectionDAO();
 
         // Fetch the collection to be renamed
-        Collection collection = collectionDAO.getCollectionByName(oldName);
+        Collection collection = collectionDAO.getCollectionByName(oldName, false);
         if (collection == null) {
             System.err.println("Error: Collection \"" + oldName + "\" not found.");
             return;
         }
 
         // Check if the new name is already taken by another collection
-        Collection existing = collectionDAO.getCollectionByName(newName);
+        Collection existing = collectionDAO.getCollectionByName(newName, false);
         if (existing != null) {
             System.err.println("Error: A collection with the name \"" + newName + "\" already exists.");
             return;
@@ -87,33 +86,33 @@ public class RenameCommand implements Runnable {
         // update the collection name and save changes
         collection.setName(newName);
         collectionDAO.updateCollection(collection);
+        Context.invalidate();
 
-        System.out.println("Collection renamed successfully!");
-        System.out.println(collection);
+        formatOption.print("Collection renamed successfully!", collection);
     }
 
     // Task renaming logic
     private void renameTask(String currentName, String newName) {
 
-        if (!Context.hasActiveCollection()) {
-            System.err.println("No active collection. Use 'use <collection-name>' first.");
+        if (!TaskRefs.checkActiveCollection(currentName)) {
             return;
         }
 
         TaskDAO taskDAO = new TaskDAO();
-        
-        Task task = taskDAO.getTaskByName(currentName);
+
+        Task task = TaskRefs.resolve(taskDAO, currentName);
         if (task == null) {
-            System.err.println("Task '" + currentName + "' not found in the active collection.");
             return;
         }
 
-        if (newName.equals(currentName)) {
+        if (newName.equals(task.getName())) {
             System.err.println("New name cannot be the same as the current name.");
             return;
         }
 
-        if (taskDAO.getTaskByName(newName) != null) {
+        // Names are unique within the task's own collection, which for #<id> may not be the active one
+        Task existing = taskDAO.getTaskByName(task.getCollectionId(), newName);
+        if (existing != null && existing.getId() != task.getId()) {
             System.err.println("A task with name '" + newName + "' already exists in this collection.");
             return;
         }
@@ -121,7 +120,6 @@ public class RenameCommand implements Runnable {
         task.setName(newName);
         taskDAO.updateTask(task);
 
-        System.out.println("Task renamed successfully!");
-        System.out.println(task);
+        formatOption.print("Task renamed successfully!", task);
     }
 }
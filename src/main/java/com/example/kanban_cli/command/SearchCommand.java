@@ -0,0 +1,161 @@
+package com.example.kanban_cli.command;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.CollectionDAO;
+import com.example.kanban_cli.db.TaskDAO;
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.render.Renderer;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+@Command(
+        name = "search",
+        description = "Find tasks by name using the full-text index"
+)
+public class SearchCommand implements Runnable {
+
+    @Parameters(
+            arity = "1..*",
+            description = "Words to find. Quote a phrase (\"fix login\"), end a word with * to match a prefix"
+    )
+    private List<String> queryParts;
+
+    @Option(
+            names = {"-a", "--all"},
+            description = "Search every collection instead of the active one"
+    )
+    private boolean all;
+
+    @Option(
+            names = {"-n", "--limit"},
+            description = "Maximum number of results (default: 20)",
+            defaultValue = "20"
+    )
+    private int limit;
+
+    @Option(
+            names = {"--raw"},
+            description = "Pass the query to SQLite FTS5 as written (OR, NOT, NEAR, column filters)"
+    )
+    private boolean raw;
+
+    @Mixin
+    private FormatOption formatOption;
+
+    @Override
+    public void run() {
+
+        // Validation checks
+
+        if (!all && !Context.hasActiveCollection()) {
+            System.err.println("No active collection. Use 'use <collection>' first, or --all.");
+            return;
+        }
+
+        if (limit < 1) {
+            System.err.println("Limit must be at least 1.");
+            return;
+        }
+
+        String input = String.join(" ", queryParts);
+        String matchQuery = raw ? input : toMatchQuery(input);
+        if (matchQuery.isBlank()) {
+            System.err.println("Search query is empty.");
+            return;
+        }
+
+        // Collection names for labelling results from other collections
+        Map<Integer, String> collectionNames = new HashMap<>();
+        if (all) {
+            for (Collection collection : new CollectionDAO().getAllCollections(false)) {
+                collectionNames.put(collection.getId(), collection.getName());
+            }
+        }
+
+        Integer collectionId = all ? null : Context.getActiveCollection().getId();
+        TaskDAO taskDAO = new TaskDAO();
+        long start = System.nanoTime();
+
+        try (Renderer out = formatOption.open()) {
+            int[] lastCollection = {0};
+
+            long found = taskDAO.search(matchQuery, collectionId, limit, task -> {
+                if (all && task.getCollectionId() != lastCollection[0]) {
+                    out.section(collectionNames.getOrDefault(task.getCollectionId(), "?"));
+                    lastCollection[0] = task.getCollectionId();
+                }
+                out.task(task);
+            });
+
+            if (found < 0) {
+                return;
+            }
+            if (found == 0) {
+                out.line("No tasks match '" + input + "'.");
+            }
+
+            System.err.printf("%d result(s) in %.2f ms%n", found, (System.nanoTime() - start) / 1_000_000.0);
+
+        } catch (IOException e) {
+            System.err.println("Error printing results: " + e.getMessage());
+        }
+    }
+
+    // Helper methods
+
+    // Turn free text into an FTS5 query that cannot fail to parse: every word
+    // and quoted phrase becomes a quoted string, all of them must match, and
+    // a trailing * keeps its prefix meaning
+    static String toMatchQuery(String input) {
+        StringBuilder query = new StringBuilder();
+        int i = 0;
+
+        while (i < input.length()) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            String term;
+            if (c == '"') {
+                int close = input.indexOf('"', i + 1);
+                int end = close < 0 ? input.length() : close;
+                term = input.substring(i + 1, end);
+                i = close < 0 ? end : end + 1;
+            } else {
+                int end = i;
+                while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+                    end++;
+                }
+                term = input.substring(i, end);
+                i = end;
+            }
+
+            boolean prefix = term.endsWith("*");
+            if (prefix) {
+                term = term.substring(0, term.length() - 1);
+            }
+            if (term.isBlank()) {
+                continue;
+            }
+
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('"').append(term.replace("\"", "\"\"")).append('"');
+            if (prefix) {
+                query.append('*');
+            }
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.kanban_cli.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.example.kanban_cli.App;
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.Stdin;
+import com.example.kanban_cli.db.Database;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "shell",
+        description = "Start an interactive session that reuses one database connection"
+)
+public class ShellCommand implements Runnable {
+
+    private static final Set<String> EXIT_WORDS = Set.of("exit", "quit");
+
+    // Commands that make no sense inside a running shell
+    private static final Set<String> BLOCKED = Set.of("shell", "daemon");
+
+    @Option(
+            names = {"-q", "--quiet"},
+            description = "Do not print per-command latency"
+    )
+    private boolean quiet;
+
+    @Override
+    public void run() {
+
+        // Warm up the connection and the active collection once for the whole session
+        long start = System.nanoTime();
+        Database.getInstance();
+        Context.getActiveCollection();
+        if (!quiet) {
+            System.err.println("Connected in " + formatMillis(System.nanoTime() - start)
+                    + ". Type 'help' for commands, 'exit' to leave.");
+        }
+
+        // One CommandLine for the whole session, picocli resets options between runs
+        CommandLine dispatcher = App.commandLine();
+
+        while (true) {
+            System.out.print("kanban> ");
+            System.out.flush();
+
+            if (!Stdin.hasNextLine()) {
+                System.out.println();
+                printSummary();
+                return;
+            }
+
+            List<String> tokens;
+            try {
+                tokens = tokenize(Stdin.nextLine());
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                continue;
+            }
+
+            if (tokens.isEmpty()) {
+                continue;
+            }
+
+            String first = tokens.get(0).toLowerCase();
+            if (EXIT_WORDS.contains(first)) {
+                printSummary();
+                return;
+            }
+            if (first.equals("help")) {
+                tokens.set(0, "--help");
+            }
+            if (BLOCKED.contains(first)) {
+                System.err.println("'" + first + "' cannot be used inside the shell.");
+                continue;
+            }
+            if (tokens.contains("--watch")) {
+                System.err.println("'--watch' cannot be used inside the shell.");
+                continue;
+            }
+
+            long begin = System.nanoTime();
+            int exitCode = App.execute(dispatcher, tokens.toArray(new String[0]));
+            long elapsed = System.nanoTime() - begin;
+
+            if (!quiet) {
+                System.err.println("(" + formatMillis(elapsed)
+                        + (exitCode != 0 ? ", exit " + exitCode : "") + ")");
+            }
+        }
+    }
+
+    // Helper methods
+
+    // Split a line like a POSIX shell would: whitespace separated, with single
+    // quotes, double quotes and backslash escapes
+    static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else if (c == '\\' && quote == '"' && i + 1 < line.length()) {
+                    current.append(line.charAt(++i));
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                inToken = true;
+            } else if (c == '\\' && i + 1 < line.length()) {
+                current.append(line.charAt(++i));
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                current.append(c);
+                inToken = true;
+            }
+        }
+
+        if (quote != 0) {
+            throw new IllegalArgumentException("Unterminated quote.");
+        }
+        if (inToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private void printSummary() {
+        if (quiet) {
+            return;
+        }
+        Database database = Database.getInstance();
+        System.err.println("Statement cache: " + database.getStatementCacheHits() + " hits, "
+                + database.getStatementCacheMisses() + " misses, "
+                + database.getStatementCacheSize() + " cached.");
+    }
+
+    private String formatMillis(long nanos) {
+        return String.format("%.2f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.kanban_cli.command;
+
+import java.util.List;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.CollectionDAO;
+import com.example.kanban_cli.io.JsonLinesReader;
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.render.Renderer;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "stats",
+        description = "Show task counts per status without reading the tasks"
+)
+public class StatsCommand implements Runnable {
+
+    @Option(
+            names = {"-a", "--all"},
+            description = "Show every collection instead of the active one"
+    )
+    private boolean all;
+
+    @Option(
+            names = {"-o", "--overdue"},
+            description = "Also count overdue tasks (reads the due date index)"
+    )
+    private boolean overdue;
+
+    @Option(
+            names = {"--json"},
+            description = "Print one JSON object per collection, for scripts and prompts"
+    )
+    private boolean json;
+
+    @Mixin
+    private FormatOption formatOption;
+
+    @Override
+    public void run() {
+
+        Integer collectionId = null;
+        if (!all) {
+            if (!Context.hasActiveCollection()) {
+                System.err.println("No active collection. Use 'use <collection>' first, or --all.");
+                return;
+            }
+            collectionId = Context.getActiveCollection().getId();
+        }
+
+        List<Collection> stats = new CollectionDAO().getStats(collectionId, overdue);
+
+        try (Renderer out = formatOption.open()) {
+            if (stats.isEmpty() && !json) {
+                out.line("No collections found.");
+                return;
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (Collection collection : stats) {
+                sb.setLength(0);
+                if (json) {
+                    appendJson(sb, collection);
+                    out.line(sb);
+                } else if (out.format() == Renderer.Format.TREE) {
+                    appendText(sb, collection);
+                    out.line(sb);
+                } else {
+                    out.collection(collection);
+                }
+            }
+        }
+    }
+
+    // Helper methods
+
+    private void appendText(StringBuilder sb, Collection collection) {
+        sb.append(collection.getName()).append(": ")
+                .append("todo ").append(collection.getTodoCount())
+                .append(", in_progress ").append(collection.getInProgressCount())
+                .append(", done ").append(collection.getDoneCount())
+                .append(", total ").append(collection.getTasks());
+        if (overdue) {
+            sb.append(", overdue ").append(collection.getOverdueCount());
+        }
+    }
+
+    private void appendJson(StringBuilder sb, Collection collection) {
+        sb.append("{\"collection\":");
+        JsonLinesReader.appendQuoted(sb, collection.getName());
+        sb.append(",\"todo\":").append(collection.getTodoCount())
+                .append(",\"in_progress\":").append(collection.getInProgressCount())
+                .append(",\"done\":").append(collection.getDoneCount())
+                .append(",\"total\":").append(collection.getTasks());
+        if (overdue) {
+            sb.append(",\"overdue\":").append(collection.getOverdueCount());
+        }
+        sb.append('}');
+    }
+}
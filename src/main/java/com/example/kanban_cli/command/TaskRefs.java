@@ -0,0 +1,38 @@
+package com.example.kanban_cli.command;
+
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.db.TaskDAO;
+import com.example.kanban_cli.model.Task;
+
+// Resolves the task argument of a command. "#<id>" is a primary key lookup
+// that works from any collection, anything else is a task name in the
+// active collection.
+final class TaskRefs {
+
+    private TaskRefs() {
+    }
+
+    static boolean isId(String reference) {
+        return TaskDAO.isIdReference(reference);
+    }
+
+    // Print the usual error and return false when a name is given without an active collection
+    static boolean checkActiveCollection(String reference) {
+        if (!isId(reference) && !Context.hasActiveCollection()) {
+            System.err.println("No active collection. Use 'use <collection-name>' first, or refer to the task as #<id>.");
+            return false;
+        }
+        return true;
+    }
+
+    // The task, or null after printing a not-found error
+    static Task resolve(TaskDAO taskDAO, String reference) {
+        Task task = taskDAO.findTask(reference);
+        if (task == null) {
+            System.err.println(isId(reference)
+                    ? "Task " + reference.trim() + " not found."
+                    : "Task with name '" + reference + "' not found in the active collection.");
+        }
+        return task;
+    }
+}
@@ -2,10 +2,13 @@ package com.example.kanban_cli.command;
 
 import java.util.List;
 
+import com.example.kanban_cli.Context;
 import com.example.kanban_cli.db.CollectionDAO;
 import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.render.Renderer;
 
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Parameters;
 
 @Command(
@@ -21,31 +24,44 @@ public class UseCommand implements Runnable {
     )
     private List<String> nameParts;
 
+    @Mixin
+    private FormatOption formatOption;
+
     @Override
     public void run() {
         try {
             String collectionName = String.join(" ", nameParts);
             CollectionDAO collectionDAO = new CollectionDAO();
-            Collection collection = collectionDAO.getCollectionByName(collectionName);
+            Collection collection = collectionDAO.getCollectionByName(collectionName, false);
+
+            // Counts for the printout come from collection_stats instead of reading the tasks
+            if (collection != null) {
+                List<Collection> stats = collectionDAO.getStats(collection.getId(), true);
+                if (!stats.isEmpty()) {
+                    collection = stats.get(0);
+                }
+            }
 
             if (collection == null) {
                 System.err.println("Collection '" + collectionName + "' not found.");
-                System.out.println();
-                System.out.println("Available collections:");
-                collectionDAO.getAllCollections().forEach(System.out::println);
 
-                if (collectionDAO.getAllCollections().isEmpty()) {
-                    System.out.println("No collections found. Create a new collection using the 'new' command.");
+                try (Renderer out = formatOption.open()) {
+                    out.blank();
+                    out.line("Available collections:");
+                    List<Collection> collections = collectionDAO.getAllCollections();
+                    collections.forEach(out::collection);
+
+                    if (collections.isEmpty()) {
+                        out.line("No collections found. Create a new collection using the 'new' command.");
+                    }
                 }
 
             } else if (collection.getIsActive()) {
-                System.out.println("Collection '" + collection.getName() + "' is already active.");
-                System.out.println(collection);
+                formatOption.print("Collection '" + collection.getName() + "' is already active.", collection);
             } else {
-                collectionDAO.clearAllActive();
-                collectionDAO.updateIsActive(true, collection.getName());
-                System.out.println("Now working with collection: " + collection.getName());
-                System.out.println(collection);
+                Context.setActiveCollection(collection);
+                collection.setIsActive(true);
+                formatOption.print("Now working with collection: " + collection.getName(), collection);
             }
 
         } catch (Exception e) {
@@ -0,0 +1,131 @@
+package com.example.kanban_cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.Set;
+
+import com.example.kanban_cli.daemon.DaemonProtocol.Frame;
+
+// Thin client used by App.main. It deliberately touches neither picocli nor
+// SQLite so a forwarded call only pays for JVM startup and one socket round trip.
+public class DaemonClient {
+
+    // Commands that must run in the calling process
+    private static final Set<String> LOCAL_COMMANDS = Set.of("daemon", "shell");
+
+    // Options that keep a command running until interrupted, which would hold the daemon
+    private static final Set<String> LOCAL_OPTIONS = Set.of("--watch");
+
+    // Forward the invocation to a running daemon.
+    // Returns the exit code, or null when no daemon is available.
+    public static Integer forward(String[] args) {
+        if (args.length > 0 && LOCAL_COMMANDS.contains(args[0])) {
+            return null;
+        }
+        for (String arg : args) {
+            if (LOCAL_OPTIONS.contains(arg)) {
+                return null;
+            }
+        }
+
+        SocketChannel channel = connect();
+        if (channel == null) {
+            return null;
+        }
+
+        try (channel) {
+            DataInputStream in = DaemonProtocol.input(channel);
+            DataOutputStream out = DaemonProtocol.output(channel);
+
+            DaemonProtocol.writeArgs(out, args);
+
+            Thread pump = new Thread(() -> pumpStdin(out), "kanban-stdin");
+            pump.setDaemon(true);
+            pump.start();
+
+            while (true) {
+                Frame frame = DaemonProtocol.readFrame(in);
+                switch (frame.type()) {
+                    case DaemonProtocol.STDOUT -> {
+                        System.out.write(frame.payload());
+                        System.out.flush();
+                    }
+                    case DaemonProtocol.STDERR -> {
+                        System.err.write(frame.payload());
+                        System.err.flush();
+                    }
+                    case DaemonProtocol.EXIT -> {
+                        return DaemonProtocol.decodeExit(frame.payload());
+                    }
+                    default ->
+                        throw new IOException("Unexpected frame '" + (char) frame.type() + "'");
+                }
+            }
+
+        } catch (IOException e) {
+            System.err.println("Lost connection to daemon: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    public static boolean isRunning() {
+        SocketChannel channel = connect();
+        if (channel == null) {
+            return false;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing to clean up, the daemon answered
+        }
+        return true;
+    }
+
+    public static boolean stop() {
+        SocketChannel channel = connect();
+        if (channel == null) {
+            return false;
+        }
+
+        try (channel) {
+            DaemonProtocol.writeFrame(DaemonProtocol.output(channel), DaemonProtocol.STOP, new byte[0]);
+            return DaemonProtocol.readFrame(DaemonProtocol.input(channel)).type() == DaemonProtocol.EXIT;
+        } catch (IOException e) {
+            System.err.println("Error stopping daemon: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static SocketChannel connect() {
+        if (!Files.exists(DaemonProtocol.SOCKET_PATH)) {
+            return null;
+        }
+        try {
+            return SocketChannel.open(UnixDomainSocketAddress.of(DaemonProtocol.SOCKET_PATH));
+        } catch (IOException e) {
+            // Stale socket file left behind by a daemon that died
+            return null;
+        }
+    }
+
+    private static void pumpStdin(DataOutputStream out) {
+        InputStream stdin = System.in;
+        byte[] buffer = new byte[8192];
+        try {
+            int n;
+            while ((n = stdin.read(buffer)) >= 0) {
+                if (n > 0) {
+                    DaemonProtocol.writeFrame(out, DaemonProtocol.STDIN, buffer, 0, n);
+                }
+            }
+            DaemonProtocol.writeFrame(out, DaemonProtocol.STDIN_EOF, new byte[0]);
+        } catch (IOException e) {
+            // The daemon closed the connection once the command finished
+        }
+    }
+}
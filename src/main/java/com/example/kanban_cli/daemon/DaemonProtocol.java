@@ -0,0 +1,132 @@
+package com.example.kanban_cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+// Framed wire format shared by the daemon and its client.
+// Every frame is: type (1 byte), payload length (int), payload bytes.
+public final class DaemonProtocol {
+
+    public static final Path SOCKET_PATH = Path.of(System.getProperty("kanban.socket", "kanban.sock"));
+
+    // client -> daemon
+    public static final byte ARGS = 'A';
+    public static final byte STDIN = 'I';
+    public static final byte STDIN_EOF = 'E';
+    public static final byte STOP = 'S';
+
+    // daemon -> client
+    public static final byte STDOUT = 'O';
+    public static final byte STDERR = 'R';
+    public static final byte EXIT = 'X';
+
+    private DaemonProtocol() {
+    }
+
+    public static void writeFrame(DataOutputStream out, byte type, byte[] payload, int offset, int length)
+            throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            out.writeInt(length);
+            out.write(payload, offset, length);
+            out.flush();
+        }
+    }
+
+    public static void writeFrame(DataOutputStream out, byte type, byte[] payload) throws IOException {
+        writeFrame(out, type, payload, 0, payload.length);
+    }
+
+    public static void writeArgs(DataOutputStream out, String[] args) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(buffer);
+        data.writeInt(args.length);
+        for (String arg : args) {
+            data.writeUTF(arg);
+        }
+        writeFrame(out, ARGS, buffer.toByteArray());
+    }
+
+    public static void writeExit(DataOutputStream out, int exitCode) throws IOException {
+        writeFrame(out, EXIT, new byte[]{
+            (byte) (exitCode >>> 24), (byte) (exitCode >>> 16), (byte) (exitCode >>> 8), (byte) exitCode
+        });
+    }
+
+    public static Frame readFrame(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Corrupt frame length: " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return new Frame(type, payload);
+    }
+
+    public static String[] decodeArgs(byte[] payload) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(payload));
+        String[] args = new String[data.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = data.readUTF();
+        }
+        return args;
+    }
+
+    public static int decodeExit(byte[] payload) throws IOException {
+        if (payload.length != 4) {
+            throw new EOFException("Truncated exit frame");
+        }
+        return ((payload[0] & 0xff) << 24) | ((payload[1] & 0xff) << 16)
+                | ((payload[2] & 0xff) << 8) | (payload[3] & 0xff);
+    }
+
+    // Channels.newInputStream/newOutputStream serialize reads and writes on the
+    // same blocking lock, which deadlocks a client that reads frames while a
+    // second thread forwards stdin. These adapters go straight to the channel.
+    public static DataInputStream input(SocketChannel channel) {
+        return new DataInputStream(new BufferedInputStream(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return channel.read(ByteBuffer.wrap(b, off, len));
+            }
+        }));
+    }
+
+    public static DataOutputStream output(SocketChannel channel) {
+        return new DataOutputStream(new BufferedOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }));
+    }
+
+    public record Frame(byte type, byte[] payload) {
+    }
+}
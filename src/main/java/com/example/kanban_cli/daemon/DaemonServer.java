@@ -0,0 +1,209 @@
+package com.example.kanban_cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.example.kanban_cli.App;
+import com.example.kanban_cli.Context;
+import com.example.kanban_cli.daemon.DaemonProtocol.Frame;
+
+// Serves forwarded commands one at a time on a Unix domain socket, reusing the
+// JVM and the SQLite connection of this process for every request. The active
+// collection is read again per request, it may be changed by other processes.
+public class DaemonServer {
+
+    private final Path socketPath;
+    private volatile boolean running = true;
+
+    public DaemonServer(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    public void serve() throws IOException {
+        // Only reached when no daemon answered on the socket, so the file is stale
+        Files.deleteIfExists(socketPath);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            Thread cleanup = new Thread(this::deleteSocket, "kanban-daemon-cleanup");
+            Runtime.getRuntime().addShutdownHook(cleanup);
+
+            while (running) {
+                try (SocketChannel client = server.accept()) {
+                    handle(client);
+                } catch (IOException e) {
+                    System.err.println("Error serving request: " + e.getMessage());
+                }
+            }
+
+            Runtime.getRuntime().removeShutdownHook(cleanup);
+        } finally {
+            deleteSocket();
+        }
+    }
+
+    private void handle(SocketChannel client) throws IOException {
+        DataInputStream in = DaemonProtocol.input(client);
+        DataOutputStream out = DaemonProtocol.output(client);
+
+        Frame first = DaemonProtocol.readFrame(in);
+        if (first.type() == DaemonProtocol.STOP) {
+            running = false;
+            DaemonProtocol.writeExit(out, 0);
+            return;
+        }
+        if (first.type() != DaemonProtocol.ARGS) {
+            throw new IOException("Expected arguments frame, got '" + (char) first.type() + "'");
+        }
+
+        String[] args = DaemonProtocol.decodeArgs(first.payload());
+
+        // Another process may have switched, renamed or deleted the active
+        // collection since the last request; reloading it is one primary-key read
+        Context.invalidate();
+
+        PrintStream stdout = new PrintStream(new FrameOutputStream(out, DaemonProtocol.STDOUT), true, StandardCharsets.UTF_8);
+        PrintStream stderr = new PrintStream(new FrameOutputStream(out, DaemonProtocol.STDERR), true, StandardCharsets.UTF_8);
+
+        InputStream originalIn = System.in;
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+
+        int exitCode;
+        try {
+            System.setIn(new FrameInputStream(in, stdout, stderr));
+            System.setOut(stdout);
+            System.setErr(stderr);
+
+            exitCode = App.execute(args);
+
+        } finally {
+            stdout.flush();
+            stderr.flush();
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+
+        DaemonProtocol.writeExit(out, exitCode);
+    }
+
+    private void deleteSocket() {
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            System.err.println("Error removing daemon socket: " + e.getMessage());
+        }
+    }
+
+    // Buffers command output and ships it to the client as STDOUT/STDERR frames
+    private static class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+        private final byte[] buffer = new byte[8192];
+        private int count;
+
+        FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flush();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len >= buffer.length) {
+                flush();
+                DaemonProtocol.writeFrame(out, type, b, off, len);
+                return;
+            }
+            if (len > buffer.length - count) {
+                flush();
+            }
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (count > 0) {
+                DaemonProtocol.writeFrame(out, type, buffer, 0, count);
+                count = 0;
+            }
+        }
+    }
+
+    // Feeds the command the client's stdin, pulling STDIN frames on demand.
+    // Pending output is flushed first so prompts show up before we block.
+    private static class FrameInputStream extends InputStream {
+        private final DataInputStream in;
+        private final PrintStream stdout;
+        private final PrintStream stderr;
+        private byte[] current = new byte[0];
+        private int position;
+        private boolean eof;
+
+        FrameInputStream(DataInputStream in, PrintStream stdout, PrintStream stderr) {
+            this.in = in;
+            this.stdout = stdout;
+            this.stderr = stderr;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (position == current.length) {
+                if (eof) {
+                    return -1;
+                }
+                stdout.flush();
+                stderr.flush();
+
+                Frame frame = DaemonProtocol.readFrame(in);
+                if (frame.type() == DaemonProtocol.STDIN_EOF) {
+                    eof = true;
+                } else if (frame.type() == DaemonProtocol.STDIN) {
+                    current = frame.payload();
+                    position = 0;
+                } else {
+                    throw new IOException("Unexpected frame '" + (char) frame.type() + "' while reading stdin");
+                }
+            }
+
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return current.length - position;
+        }
+    }
+}
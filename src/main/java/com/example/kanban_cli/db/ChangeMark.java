@@ -0,0 +1,10 @@
+package com.example.kanban_cli.db;
+
+// How far a watcher has read: the highest task id it has seen, past which
+// tasks are new, and the last change log sequence number it has applied.
+public record ChangeMark(int id, long seq) {
+
+    public ChangeMark advance(TaskChange change) {
+        return new ChangeMark(Math.max(id, change.taskId()), Math.max(seq, change.seq()));
+    }
+}
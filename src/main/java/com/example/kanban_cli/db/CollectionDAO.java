@@ -3,41 +3,45 @@ package com.example.kanban_cli.db;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.example.kanban_cli.Context;
 import com.example.kanban_cli.model.Collection;
 import com.example.kanban_cli.model.Task;
 
 public class CollectionDAO {
 
-    private final Database database;
-    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    // Collections with their task counts per status, aggregated in one pass
+    // over the tasks table instead of a COUNT query per collection
+    private static final String SELECT_WITH_COUNTS = """
+        SELECT c.*,
+               COUNT(t.id) AS task_count,
+               COALESCE(SUM(t.status = 'todo'), 0) AS todo_count,
+               COALESCE(SUM(t.status = 'in_progress'), 0) AS in_progress_count,
+               COALESCE(SUM(t.status = 'done'), 0) AS done_count,
+               COALESCE(SUM(t.due_date < ? AND t.status <> 'done'), 0) AS overdue_count
+        FROM collections c
+        LEFT JOIN tasks t ON t.collection_id = c.id
+        """;
 
-    private final TaskDAO taskDAO;
+    private final Database database;
 
     public CollectionDAO() {
         this.database = Database.getInstance();
-        this.taskDAO = new TaskDAO();
     }
 
     // CRUD operations for Collection
     public void createCollection(Collection collection) {
-        String sql = "INSERT INTO collections (name, created_at, is_active, updated_at) VALUES (?, ?, ?, ?)";
+        String sql = "INSERT INTO collections (name, created_at, updated_at) VALUES (?, ?, ?)";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setString(1, collection.getName());
-            pstmt.setString(2, collection.getCreatedAt().format(DATETIME));
-            pstmt.setBoolean(3, collection.getIsActive());
-
-            if (collection.getUpdatedAt() != null) {
-                pstmt.setString(4, collection.getUpdatedAt().format(DATETIME));
-            } else {
-                pstmt.setString(4, null);
-            }
+            pstmt.setLong(2, collection.getCreatedAtMillis());
+            pstmt.setObject(3, collection.getUpdatedAtMillis());
 
             pstmt.executeUpdate();
 
@@ -47,15 +51,28 @@ public class CollectionDAO {
     }
 
     public Collection getCollectionByName(String name) {
-        String sql = "SELECT * FROM collections WHERE LOWER(name) = LOWER(?)";
-
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, name.trim().toLowerCase());
-            ResultSet rs = pstmt.executeQuery();
+        return getCollectionByName(name, true);
+    }
 
-            if (rs.next()) {
-                return mapResultSetToCollection(rs);
+    // Without counts this is a single indexed lookup on the collections table
+    public Collection getCollectionByName(String name, boolean withCounts) {
+        String sql = withCounts
+                ? SELECT_WITH_COUNTS + "WHERE c.name = ? GROUP BY c.id"
+                : "SELECT * FROM collections WHERE name = ?";
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            int index = 1;
+            if (withCounts) {
+                pstmt.setLong(index++, System.currentTimeMillis());
+            }
+            pstmt.setString(index, name.trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToCollection(rs, withCounts);
+                }
             }
+
         } catch (SQLException e) {
             System.err.println("Error getting collection by name: " + e.getMessage());
         }
@@ -63,14 +80,24 @@ public class CollectionDAO {
     }
 
     public List<Collection> getAllCollections() {
-        String sql = "SELECT * FROM collections ORDER BY created_at DESC";
-        List<Collection> collections = new ArrayList<>();
+        return getAllCollections(true);
+    }
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            ResultSet rs = pstmt.executeQuery();
+    public List<Collection> getAllCollections(boolean withCounts) {
+        String sql = withCounts
+                ? SELECT_WITH_COUNTS + "GROUP BY c.id ORDER BY c.created_at DESC"
+                : "SELECT * FROM collections ORDER BY created_at DESC";
+        List<Collection> collections = new ArrayList<>();
 
-            while (rs.next()) {
-                collections.add(mapResultSetToCollection(rs));
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            if (withCounts) {
+                pstmt.setLong(1, System.currentTimeMillis());
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    collections.add(mapResultSetToCollection(rs, withCounts));
+                }
             }
 
         } catch (SQLException e) {
@@ -79,29 +106,137 @@ public class CollectionDAO {
         return collections;
     }
 
-    public void deleteCollection(int id) {
-        String sql = "DELETE FROM collections WHERE id = ?";
+    // Board sizes from the trigger-maintained collection_stats table: one row
+    // read per collection however many tasks it holds. Overdue depends on the
+    // clock so it cannot be kept by triggers; when asked for it is counted with
+    // a range scan of the (collection_id, due_date) index.
+    public List<Collection> getStats(Integer collectionId, boolean withOverdue) {
+        String sql = """
+            SELECT c.*,
+                   COALESCE(s.total, 0) AS task_count,
+                   COALESCE(s.todo, 0) AS todo_count,
+                   COALESCE(s.in_progress, 0) AS in_progress_count,
+                   COALESCE(s.done, 0) AS done_count,
+            """
+                + (withOverdue
+                        ? "(SELECT COUNT(*) FROM tasks t WHERE t.collection_id = c.id AND t.due_date < ? AND t.status <> 'done')"
+                        : "0")
+                + " AS overdue_count FROM collections c LEFT JOIN collection_stats s ON s.collection_id = c.id"
+                + (collectionId != null ? " WHERE c.id = ?" : "")
+                + " ORDER BY c.created_at DESC";
+        List<Collection> collections = new ArrayList<>();
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.setInt(1, id);
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            int index = 1;
+            if (withOverdue) {
+                pstmt.setLong(index++, System.currentTimeMillis());
+            }
+            if (collectionId != null) {
+                pstmt.setInt(index, collectionId);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    collections.add(mapResultSetToCollection(rs, true));
+                }
+            }
 
-            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("Error getting collection stats: " + e.getMessage());
+        }
+        return collections;
+    }
+
+    // Archived tasks of a collection per status. collection_stats only counts
+    // the board, so these are counted over the archive's collection index
+    public Map<String, Integer> getArchivedCounts(int collectionId) {
+        String sql = "SELECT status, COUNT(*) AS count FROM archived_tasks WHERE collection_id = ? GROUP BY status";
+        Map<String, Integer> counts = new HashMap<>();
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, collectionId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getString("status"), rs.getInt("count"));
+                }
+            }
 
         } catch (SQLException e) {
-            System.err.println("Error deleting collection: " + e.getMessage());
+            System.err.println("Error counting archived tasks: " + e.getMessage());
+        }
+        return counts;
+    }
+
+    // Rows removed by a collection delete
+    public record Deleted(int collections, long tasks, long archivedTasks) {
+    }
+
+    // Delete a collection; its tasks go with it through ON DELETE CASCADE.
+    // Returns what was deleted, or null on error.
+    public Deleted deleteCollection(int id) {
+        return delete(id);
+    }
+
+    // Delete every collection and, through the cascade, every task
+    public Deleted deleteAllCollections() {
+        return delete(null);
+    }
+
+    // One DELETE in one transaction. The driver's update count also includes
+    // rows changed by the cascade and triggers, so the counts are read first:
+    // collections and live tasks from collection_stats, which has one row per
+    // collection, and archived tasks, which the cascade removes as well, from
+    // archived_tasks over its collection index.
+    private Deleted delete(Integer id) {
+        String where = id != null ? " WHERE collection_id = ?" : "";
+        String countSql = "SELECT COUNT(*) AS collections, COALESCE(SUM(total), 0) AS tasks,"
+                + " (SELECT COUNT(*) FROM archived_tasks" + where + ") AS archived FROM collection_stats" + where;
+        String deleteSql = "DELETE FROM collections" + (id != null ? " WHERE id = ?" : "");
+
+        try {
+            return database.inTransaction(() -> {
+                int collections = 0;
+                long tasks = 0;
+                long archived = 0;
+                PreparedStatement count = database.prepare(countSql);
+                if (id != null) {
+                    count.setInt(1, id);
+                    count.setInt(2, id);
+                }
+                try (ResultSet rs = count.executeQuery()) {
+                    if (rs.next()) {
+                        collections = rs.getInt("collections");
+                        tasks = rs.getLong("tasks");
+                        archived = rs.getLong("archived");
+                    }
+                }
+
+                PreparedStatement delete = database.prepare(deleteSql);
+                if (id != null) {
+                    delete.setInt(1, id);
+                }
+                delete.executeUpdate();
+                return new Deleted(collections, tasks, archived);
+            });
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting collections: " + e.getMessage());
+            return null;
         }
     }
 
     public void renameCollection(String oldName, String newName) {
-        Collection existing = getCollectionByName(newName);
+        Collection existing = getCollectionByName(newName, false);
         if (existing != null) {
             System.err.println("Error: A collection with the name \"" + newName + "\" already exists.");
             return;
         }
 
-        String sql = "UPDATE collections SET name = ? WHERE LOWER(name) = LOWER(?)";
+        String sql = "UPDATE collections SET name = ? WHERE name = ?";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setString(1, newName);
             pstmt.setString(2, oldName);
 
@@ -115,9 +250,10 @@ public class CollectionDAO {
     public void updateCollection(Collection collection) {
         String sql = "UPDATE collections SET name = ?, updated_at = ? WHERE id = ?";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setString(1, collection.getName());
-            pstmt.setString(2, LocalDateTime.now().format(DATETIME));
+            pstmt.setLong(2, System.currentTimeMillis());
             pstmt.setInt(3, collection.getId());
 
             pstmt.executeUpdate();
@@ -130,11 +266,12 @@ public class CollectionDAO {
     public void updateTask(Task task) {
         String sql = "UPDATE tasks SET name = ?, status = ?, due_date = ?, updated_at = ? WHERE id = ?";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setString(1, task.getName());
             pstmt.setString(2, task.getStatus());
-            pstmt.setString(3, task.getDueDate() != null ? task.getDueDate().format(DATETIME) : null);
-            pstmt.setString(4, LocalDateTime.now().format(DATETIME));
+            pstmt.setObject(3, task.getDueDateMillis());
+            pstmt.setLong(4, System.currentTimeMillis());
             pstmt.setInt(5, task.getId());
 
             pstmt.executeUpdate();
@@ -144,35 +281,38 @@ public class CollectionDAO {
         }
     }
 
-    // Set a collection as active (is_active = true) and reset others to inactive
-    public void updateIsActive(boolean bool, String name) {
-        String resetSql = "UPDATE collections SET is_active = 0";
-        String updateSql = "UPDATE collections SET is_active = ? WHERE LOWER(name) = LOWER(?)";
-
-        try (PreparedStatement resetPstmt = database.getConnection().prepareStatement(resetSql); PreparedStatement updatePstmt = database.getConnection().prepareStatement(updateSql)) {
-
-            // First, reset all collections to inactive
-            resetPstmt.executeUpdate();
-
-            // Then, set the specified collection to active
-            updatePstmt.setBoolean(1, bool);
-            updatePstmt.setString(2, name.trim().toLowerCase());
-            updatePstmt.executeUpdate();
+    // Point the single active_collection row at a collection, one write
+    public void setActiveCollection(int collectionId, String name) {
+        String sql = """
+            INSERT INTO active_collection (id, collection_id, name) VALUES (1, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET collection_id = excluded.collection_id, name = excluded.name
+            """;
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, collectionId);
+            pstmt.setString(2, name);
+            pstmt.executeUpdate();
 
         } catch (SQLException e) {
             System.err.println("Error updating active collection: " + e.getMessage());
         }
     }
 
-    // Load the active collection (the one with is_active = true)
+    // The active collection's id and name, read by primary key. Nothing else
+    // is loaded, use getCollectionByName for the full row.
     public Collection loadActiveCollection() {
-        String sql = "SELECT * FROM collections WHERE is_active = 1 LIMIT 1";
-
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                return mapResultSetToCollection(rs);
+        String sql = "SELECT collection_id, name FROM active_collection WHERE id = 1";
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    Collection collection = new Collection(rs.getString("name"));
+                    collection.setId(rs.getInt("collection_id"));
+                    collection.setIsActive(true);
+                    return collection;
+                }
             }
 
         } catch (SQLException e) {
@@ -181,41 +321,55 @@ public class CollectionDAO {
         return null;
     }
 
-    // Disable all collections (set is_active to false)
-    public void clearAllActive() {
-        String sql = "UPDATE collections SET is_active = 0";
+    public void clearActiveCollection() {
+        String sql = "DELETE FROM active_collection";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.executeUpdate();
+        try {
+            database.prepare(sql).executeUpdate();
         } catch (SQLException e) {
-            System.err.println("Error clearing active collections: " + e.getMessage());
+            System.err.println("Error clearing active collection: " + e.getMessage());
         }
     }
 
     // Update the updated_at timestamp for a collection
-    public void updateUpdatedAt(int collectionId, LocalDateTime dateTime) {
-        String sql = "UPDATE collections SET updated_at = ? WHERE id = ?";
-
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, dateTime.format(DATETIME));
-            pstmt.setInt(2, collectionId);
-            pstmt.executeUpdate();
+    public void updateUpdatedAt(int collectionId, long updatedAt) {
+        try {
+            touch(database, collectionId, updatedAt);
         } catch (SQLException e) {
             System.err.println("Error updating collection updated_at: " + e.getMessage());
         }
     }
 
-    // Map a ResultSet row to a Collection object
-    private Collection mapResultSetToCollection(ResultSet rs) throws SQLException {
+    // Throwing variant for DAOs that touch the collection inside their own transaction
+    static void touch(Database database, int collectionId, long updatedAt) throws SQLException {
+        String sql = "UPDATE collections SET updated_at = ? WHERE id = ?";
+
+        PreparedStatement pstmt = database.prepare(sql);
+        pstmt.setLong(1, updatedAt);
+        pstmt.setInt(2, collectionId);
+        pstmt.executeUpdate();
+    }
+
+    // Map a ResultSet row to a Collection object, reading the aggregate
+    // columns only when the query selected them
+    private Collection mapResultSetToCollection(ResultSet rs, boolean withCounts) throws SQLException {
         Collection collection = new Collection(rs.getString("name"));
         collection.setId(rs.getInt("id"));
-        collection.setCreatedAt(LocalDateTime.parse(rs.getString("created_at"), DATETIME));
-        String updatedAtStr = rs.getString("updated_at");
-        if (updatedAtStr != null) {
-            collection.setUpdatedAt(LocalDateTime.parse(updatedAtStr, DATETIME));
+        collection.setCreatedAtMillis(rs.getLong("created_at"));
+        long updatedAt = rs.getLong("updated_at");
+        if (!rs.wasNull()) {
+            collection.setUpdatedAtMillis(updatedAt);
+        }
+        if (withCounts) {
+            collection.setTasks(rs.getInt("task_count"));
+            collection.setTodoCount(rs.getInt("todo_count"));
+            collection.setInProgressCount(rs.getInt("in_progress_count"));
+            collection.setDoneCount(rs.getInt("done_count"));
+            collection.setOverdueCount(rs.getInt("overdue_count"));
         }
-        collection.setTasks(taskDAO.getTaskCountByCollectionId(collection.getId()));
-        collection.setIsActive(rs.getBoolean("is_active"));
+        // Compared with the cached pointer instead of a column on every row
+        Collection active = Context.getActiveCollection();
+        collection.setIsActive(active != null && active.getId() == collection.getId());
         return collection;
     }
 }
@@ -2,19 +2,51 @@ package com.example.kanban_cli.db;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.kanban_cli.jfr.CommitEvent;
+import com.example.kanban_cli.jfr.DaoEvent;
 
 public class Database {
-    private static final String DB_URL = "jdbc:sqlite:app.db";
+    // Overridable with -Dkanban.db=<file> so benchmarks and tests can use their own database
+    private static final String DB_URL = "jdbc:sqlite:" + System.getProperty("kanban.db", "app.db");
     private static Database instance;
+    private static final int STATEMENT_CACHE_SIZE = 64;
+
+    // The driver's connection, and the one every call goes through: the same
+    // object unless a profiler has wrapped it
+    private Connection rawConnection;
     private Connection connection;
+    private int transactionDepth;
+
+    // SQL-keyed prepared statements shared by all DAOs, least recently used evicted first
+    private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= STATEMENT_CACHE_SIZE) {
+                return false;
+            }
+            closeQuietly(eldest.getValue());
+            return true;
+        }
+    };
+    private long statementCacheHits;
+    private long statementCacheMisses;
 
     // Private constructor to prevent instantiation
     private Database() {
         try {
-            connection = DriverManager.getConnection(DB_URL);
-            createTables();
+            rawConnection = DriverManager.getConnection(DB_URL);
+            connection = rawConnection;
+            RegexpFunction.register(rawConnection);
+            migrate();
+            enableForeignKeys();
 
         } catch (SQLException e) {
             System.err.println("Error connecting to database: " + e.getMessage());
@@ -33,46 +65,148 @@ public class Database {
         return connection;
     }
 
-    // Create tables if they don't exist
-    private void createTables() {
-        String createCollectionsTable = """
-            CREATE TABLE IF NOT EXISTS collections (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                name TEXT NOT NULL UNIQUE,
-                created_at TEXT NOT NULL,
-                updated_at TEXT,        
-                is_active BOOLEAN NOT NULL
-            )
-            """;
-
-        String createTasksTable = """
-            CREATE TABLE IF NOT EXISTS tasks (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                name TEXT NOT NULL,
-                status TEXT NOT NULL DEFAULT 'todo',
-                due_date TEXT,
-                created_at TEXT NOT NULL,
-                updated_at TEXT,
-                collection_id INTEGER NOT NULL,
-                FOREIGN KEY (collection_id) REFERENCES collections (id)
-            )
-            """;
-
-        // Execute the table creation statements
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(createCollectionsTable);
-            stmt.execute(createTasksTable);
-            
+    // Send every JDBC call through profiler, or stop profiling when it is null.
+    // Cached statements belong to the previous connection wrapper, so the cache
+    // starts over and a profiled command pays for preparing like a fresh process.
+    public void setProfiler(Profiler profiler) {
+        if (rawConnection == null) {
+            return;
+        }
+        clearStatementCache();
+        connection = profiler != null ? profiler.wrap(rawConnection) : rawConnection;
+    }
+
+    // Borrow the prepared statement for sql, preparing it only on a cache miss.
+    // Callers must not close it and must close any ResultSet they open on it,
+    // an open cursor keeps SQLite's read lock held between commands.
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement stmt = statements.get(sql);
+        if (stmt != null && !stmt.isClosed()) {
+            statementCacheHits++;
+            stmt.clearParameters();
+            return recorded(stmt, sql);
+        }
+
+        statementCacheMisses++;
+        stmt = connection.prepareStatement(sql);
+        statements.put(sql, stmt);
+        return recorded(stmt, sql);
+    }
+
+    // A counter SQLite bumps whenever another connection commits to the file,
+    // but never for this connection's own writes. Costs no table access, so a
+    // watcher can poll it and only read tasks once it moves.
+    public long dataVersion() throws SQLException {
+        try (ResultSet rs = prepare("PRAGMA data_version").executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    // A statement of the caller's own, outside the cache, for reading several
+    // result sets of the same SQL at once: a cached statement has only one.
+    // The caller closes it.
+    public PreparedStatement prepareUncached(String sql) throws SQLException {
+        return recorded(connection.prepareStatement(sql), sql);
+    }
+
+    // Wrapped to emit a DaoEvent per execution, only while a recording has the event enabled
+    private static PreparedStatement recorded(PreparedStatement stmt, String sql) {
+        return new DaoEvent().isEnabled() ? EventStatement.wrap(stmt, sql) : stmt;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    public int getStatementCacheSize() {
+        return statements.size();
+    }
+
+    // Close every cached statement, they are prepared again on next use
+    public void clearStatementCache() {
+        statements.values().forEach(Database::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing statement: " + e.getMessage());
+        }
+    }
+
+    // Run work as one unit: it commits once at the end or rolls back entirely
+    // if it throws. Nested calls join the outer transaction through a savepoint,
+    // so a failing inner unit only undoes its own statements.
+    public <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        if (transactionDepth > 0) {
+            Savepoint savepoint = connection.setSavepoint();
+            transactionDepth++;
+            try {
+                T result = work.run();
+                connection.releaseSavepoint(savepoint);
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback(savepoint);
+                throw e;
+            } finally {
+                transactionDepth--;
+            }
+        }
+
+        connection.setAutoCommit(false);
+        transactionDepth = 1;
+        long start = System.nanoTime();
+        try {
+            T result = work.run();
+
+            CommitEvent event = new CommitEvent();
+            event.transactionNanos = System.nanoTime() - start;
+            event.begin();
+            connection.commit();
+            event.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            transactionDepth = 0;
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // Bring the schema up to date, a no-op when it already is
+    private void migrate() {
+        try {
+            Migrations.migrate(connection);
+
+        } catch (SQLException e) {
+            System.err.println("Error migrating database: " + e.getMessage());
+        }
+    }
+
+    // SQLite leaves foreign keys unenforced unless asked, per connection.
+    // Migrations run first because some rebuild tables the keys point at.
+    private void enableForeignKeys() {
+        try (Statement stmt = rawConnection.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = ON");
+
         } catch (SQLException e) {
-            System.err.println("Error creating tables: " + e.getMessage());
+            System.err.println("Error enabling foreign keys: " + e.getMessage());
         }
     }
 
     // Method to close the database connection
     public void close() {
         try {
-            if (connection != null) {
-                connection.close();
+            if (rawConnection != null) {
+                clearStatementCache();
+                rawConnection.close();
                 
             }
         } catch (SQLException e) {
@@ -0,0 +1,122 @@
+package com.example.kanban_cli.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import com.example.kanban_cli.jfr.DaoEvent;
+
+// Wraps a borrowed statement while a recording has kanban.Dao enabled. Each
+// execution becomes one DaoEvent named after the DAO method that ran it: an
+// update ends the event when it returns, a query when its result set is closed,
+// so the time spent stepping through rows is part of the call.
+final class EventStatement implements InvocationHandler {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final PreparedStatement target;
+    private final String sql;
+
+    private EventStatement(PreparedStatement target, String sql) {
+        this.target = target;
+        this.sql = sql;
+    }
+
+    static PreparedStatement wrap(PreparedStatement stmt, String sql) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new EventStatement(stmt, sql));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (!name.startsWith("execute")) {
+            return call(target, method, args);
+        }
+
+        DaoEvent event = new DaoEvent();
+        event.method = caller();
+        event.sql = sql;
+        event.begin();
+
+        Object result = call(target, method, args);
+        if (result instanceof ResultSet rs) {
+            return Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class}, new Rows(rs, event));
+        }
+
+        if (result instanceof Number count) {
+            event.rows = count.longValue();
+        } else if (result instanceof int[] counts) {
+            for (int count : counts) {
+                event.rows += Math.max(count, 0);
+            }
+        }
+        event.commit();
+        return result;
+    }
+
+    // Helper methods
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // The nearest DAO frame, as TaskDAO.getTaskByName. Work run through
+    // inTransaction shows up as a lambda named after its enclosing method.
+    private static String caller() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().endsWith("DAO"))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    String methodName = frame.getMethodName();
+                    if (methodName.startsWith("lambda$")) {
+                        int end = methodName.indexOf('$', 7);
+                        methodName = methodName.substring(7, end > 0 ? end : methodName.length());
+                    }
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + methodName;
+                })
+                .orElse("unknown"));
+    }
+
+    // Counts rows as they are read and ends the event when the cursor closes
+    private static final class Rows implements InvocationHandler {
+        private final ResultSet target;
+        private final DaoEvent event;
+        private boolean ended;
+
+        private Rows(ResultSet target, DaoEvent event) {
+            this.target = target;
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        event.rows++;
+                    }
+                }
+                case "close" -> {
+                    if (!ended) {
+                        ended = true;
+                        event.commit();
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,530 @@
+package com.example.kanban_cli.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+
+import com.example.kanban_cli.model.Timestamps;
+
+// Versioned schema changes keyed on PRAGMA user_version.
+// A database that is already current costs a single PRAGMA read on startup.
+// Never edit a released migration, append a new one instead.
+final class Migrations {
+
+    // Format of every timestamp column before migration 3
+    private static final DateTimeFormatter LEGACY_DATETIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "Initial schema", Migrations::initialSchema),
+            new Migration(2, "Case-insensitive names and task indexes", Migrations::nocaseNamesAndIndexes),
+            new Migration(3, "Epoch millisecond timestamps", Migrations::epochMillisTimestamps),
+            new Migration(4, "Due date index", Migrations::dueDateIndex),
+            new Migration(5, "Trigger-maintained collection stats", Migrations::collectionStats),
+            new Migration(6, "Full-text search over task names", Migrations::taskSearch),
+            new Migration(7, "Tasks deleted with their collection", Migrations::cascadingTaskDeletes),
+            new Migration(8, "Single-row active collection pointer", Migrations::activeCollectionPointer),
+            new Migration(9, "Archive table for old done tasks", Migrations::archivedTasks),
+            new Migration(10, "Trigger-maintained task change log", Migrations::taskChangeLog)
+    );
+
+    static final int LATEST = MIGRATIONS.get(MIGRATIONS.size() - 1).version();
+
+    private Migrations() {
+    }
+
+    static void migrate(Connection connection) throws SQLException {
+        int current = userVersion(connection);
+        if (current >= LATEST) {
+            return;
+        }
+
+        for (Migration migration : MIGRATIONS) {
+            if (migration.version() > current) {
+                apply(connection, migration);
+            }
+        }
+    }
+
+    static int userVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+                ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // Each migration and its version bump commit together or not at all
+    private static void apply(Connection connection, Migration migration) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (Statement stmt = connection.createStatement()) {
+            migration.step().apply(stmt);
+            stmt.execute("PRAGMA user_version = " + migration.version());
+            connection.commit();
+
+        } catch (SQLException e) {
+            connection.rollback();
+            throw new SQLException("Migration " + migration.version() + " (" + migration.description()
+                    + ") failed: " + e.getMessage(), e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // Version 1: the tables as they were created before migrations existed.
+    // IF NOT EXISTS lets databases from that era adopt versioning untouched.
+    private static void initialSchema(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS collections (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL UNIQUE,
+                created_at TEXT NOT NULL,
+                updated_at TEXT,
+                is_active BOOLEAN NOT NULL
+            )
+            """);
+
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tasks (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL,
+                status TEXT NOT NULL DEFAULT 'todo',
+                due_date TEXT,
+                created_at TEXT NOT NULL,
+                updated_at TEXT,
+                collection_id INTEGER NOT NULL,
+                FOREIGN KEY (collection_id) REFERENCES collections (id)
+            )
+            """);
+    }
+
+    // Version 2: names compare with COLLATE NOCASE so lookups can use an index
+    // instead of LOWER(name) = LOWER(?), plus composite indexes for the task
+    // queries. SQLite cannot change a column's collation, so both tables are
+    // rebuilt and their rows copied over with the same ids.
+    private static void nocaseNamesAndIndexes(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE collections_new (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL UNIQUE COLLATE NOCASE,
+                created_at TEXT NOT NULL,
+                updated_at TEXT,
+                is_active BOOLEAN NOT NULL
+            )
+            """);
+        stmt.execute("""
+            INSERT INTO collections_new (id, name, created_at, updated_at, is_active)
+            SELECT id, name, created_at, updated_at, is_active FROM collections
+            """);
+        stmt.execute("DROP TABLE collections");
+        stmt.execute("ALTER TABLE collections_new RENAME TO collections");
+
+        stmt.execute("""
+            CREATE TABLE tasks_new (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL COLLATE NOCASE,
+                status TEXT NOT NULL DEFAULT 'todo',
+                due_date TEXT,
+                created_at TEXT NOT NULL,
+                updated_at TEXT,
+                collection_id INTEGER NOT NULL,
+                FOREIGN KEY (collection_id) REFERENCES collections (id)
+            )
+            """);
+        stmt.execute("""
+            INSERT INTO tasks_new (id, name, status, due_date, created_at, updated_at, collection_id)
+            SELECT id, name, LOWER(status), due_date, created_at, updated_at, collection_id FROM tasks
+            """);
+        stmt.execute("DROP TABLE tasks");
+        stmt.execute("ALTER TABLE tasks_new RENAME TO tasks");
+
+        stmt.execute("CREATE INDEX idx_tasks_collection_status_created ON tasks (collection_id, status, created_at)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_created ON tasks (collection_id, created_at)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_name ON tasks (collection_id, name)");
+        stmt.execute("CREATE INDEX idx_collections_active ON collections (is_active) WHERE is_active = 1");
+    }
+
+    // Version 3: created_at, updated_at and due_date become INTEGER epoch millis
+    // so they sort chronologically and range queries can use an index. Rows are
+    // converted in Java, using the same time zone the app displays them in.
+    private static void epochMillisTimestamps(Statement stmt) throws SQLException {
+        Connection connection = stmt.getConnection();
+
+        stmt.execute("""
+            CREATE TABLE collections_new (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL UNIQUE COLLATE NOCASE,
+                created_at INTEGER NOT NULL,
+                updated_at INTEGER,
+                is_active BOOLEAN NOT NULL
+            )
+            """);
+        copyConvertingTimestamps(connection,
+                "SELECT id, name, created_at, updated_at, is_active FROM collections",
+                "INSERT INTO collections_new (id, name, created_at, updated_at, is_active) VALUES (?, ?, ?, ?, ?)",
+                Set.of("created_at", "updated_at"));
+        stmt.execute("DROP TABLE collections");
+        stmt.execute("ALTER TABLE collections_new RENAME TO collections");
+
+        stmt.execute("""
+            CREATE TABLE tasks_new (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL COLLATE NOCASE,
+                status TEXT NOT NULL DEFAULT 'todo',
+                due_date INTEGER,
+                created_at INTEGER NOT NULL,
+                updated_at INTEGER,
+                collection_id INTEGER NOT NULL,
+                FOREIGN KEY (collection_id) REFERENCES collections (id)
+            )
+            """);
+        copyConvertingTimestamps(connection,
+                "SELECT id, name, status, due_date, created_at, updated_at, collection_id FROM tasks",
+                "INSERT INTO tasks_new (id, name, status, due_date, created_at, updated_at, collection_id) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                Set.of("due_date", "created_at", "updated_at"));
+        stmt.execute("DROP TABLE tasks");
+        stmt.execute("ALTER TABLE tasks_new RENAME TO tasks");
+
+        stmt.execute("CREATE INDEX idx_tasks_collection_status_created ON tasks (collection_id, status, created_at)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_created ON tasks (collection_id, created_at)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_name ON tasks (collection_id, name)");
+        stmt.execute("CREATE INDEX idx_collections_active ON collections (is_active) WHERE is_active = 1");
+    }
+
+    // Version 4: lets expired-task cleanup find its rows by range instead of a scan
+    private static void dueDateIndex(Statement stmt) throws SQLException {
+        stmt.execute("CREATE INDEX idx_tasks_collection_due ON tasks (collection_id, due_date)");
+    }
+
+    // Version 5: per-collection status counters kept exact by triggers, so board
+    // sizes are read from one row instead of counting tasks. Existing boards are
+    // backfilled from the tasks table.
+    private static void collectionStats(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE collection_stats (
+                collection_id INTEGER PRIMARY KEY,
+                total INTEGER NOT NULL DEFAULT 0,
+                todo INTEGER NOT NULL DEFAULT 0,
+                in_progress INTEGER NOT NULL DEFAULT 0,
+                done INTEGER NOT NULL DEFAULT 0
+            )
+            """);
+        stmt.execute("""
+            INSERT INTO collection_stats (collection_id, total, todo, in_progress, done)
+            SELECT c.id,
+                   COUNT(t.id),
+                   COALESCE(SUM(t.status = 'todo'), 0),
+                   COALESCE(SUM(t.status = 'in_progress'), 0),
+                   COALESCE(SUM(t.status = 'done'), 0)
+            FROM collections c
+            LEFT JOIN tasks t ON t.collection_id = c.id
+            GROUP BY c.id
+            """);
+
+        createCollectionStatsTriggers(stmt);
+    }
+
+    // Shared with any later migration that rebuilds tasks or collections,
+    // since dropping a table drops its triggers
+    static void createCollectionStatsTriggers(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TRIGGER collections_stats_insert AFTER INSERT ON collections
+            BEGIN
+                INSERT OR IGNORE INTO collection_stats (collection_id) VALUES (NEW.id);
+            END
+            """);
+        stmt.execute("""
+            CREATE TRIGGER collections_stats_delete AFTER DELETE ON collections
+            BEGIN
+                DELETE FROM collection_stats WHERE collection_id = OLD.id;
+            END
+            """);
+        stmt.execute("""
+            CREATE TRIGGER tasks_stats_insert AFTER INSERT ON tasks
+            BEGIN
+                UPDATE collection_stats
+                SET total = total + 1,
+                    todo = todo + (NEW.status = 'todo'),
+                    in_progress = in_progress + (NEW.status = 'in_progress'),
+                    done = done + (NEW.status = 'done')
+                WHERE collection_id = NEW.collection_id;
+            END
+            """);
+        stmt.execute("""
+            CREATE TRIGGER tasks_stats_delete AFTER DELETE ON tasks
+            BEGIN
+                UPDATE collection_stats
+                SET total = total - 1,
+                    todo = todo - (OLD.status = 'todo'),
+                    in_progress = in_progress - (OLD.status = 'in_progress'),
+                    done = done - (OLD.status = 'done')
+                WHERE collection_id = OLD.collection_id;
+            END
+            """);
+        stmt.execute("""
+            CREATE TRIGGER tasks_stats_update AFTER UPDATE OF status, collection_id ON tasks
+            WHEN OLD.status IS NOT NEW.status OR OLD.collection_id IS NOT NEW.collection_id
+            BEGIN
+                UPDATE collection_stats
+                SET total = total - 1,
+                    todo = todo - (OLD.status = 'todo'),
+                    in_progress = in_progress - (OLD.status = 'in_progress'),
+                    done = done - (OLD.status = 'done')
+                WHERE collection_id = OLD.collection_id;
+                UPDATE collection_stats
+                SET total = total + 1,
+                    todo = todo + (NEW.status = 'todo'),
+                    in_progress = in_progress + (NEW.status = 'in_progress'),
+                    done = done + (NEW.status = 'done')
+                WHERE collection_id = NEW.collection_id;
+            END
+            """);
+    }
+
+    // Version 6: an FTS5 index over task names for 'search'. It stores only the
+    // index and reads names back from tasks (external content, rowid = id), and
+    // keeps prefix indexes so short prefix queries avoid scanning the vocabulary.
+    private static void taskSearch(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE VIRTUAL TABLE tasks_fts USING fts5(
+                name,
+                content = 'tasks',
+                content_rowid = 'id',
+                tokenize = 'unicode61 remove_diacritics 2',
+                prefix = '2 3'
+            )
+            """);
+        stmt.execute("INSERT INTO tasks_fts (tasks_fts) VALUES ('rebuild')");
+
+        createTaskSearchTriggers(stmt);
+    }
+
+    // Shared with any later migration that rebuilds tasks, since dropping a
+    // table drops its triggers
+    static void createTaskSearchTriggers(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TRIGGER tasks_fts_insert AFTER INSERT ON tasks
+            BEGIN
+                INSERT INTO tasks_fts (rowid, name) VALUES (NEW.id, NEW.name);
+            END
+            """);
+        stmt.execute("""
+            CREATE TRIGGER tasks_fts_delete AFTER DELETE ON tasks
+            BEGIN
+                INSERT INTO tasks_fts (tasks_fts, rowid, name) VALUES ('delete', OLD.id, OLD.name);
+            END
+            """);
+        stmt.execute("""
+            CREATE TRIGGER tasks_fts_update AFTER UPDATE OF name ON tasks
+            BEGIN
+                INSERT INTO tasks_fts (tasks_fts, rowid, name) VALUES ('delete', OLD.id, OLD.name);
+                INSERT INTO tasks_fts (rowid, name) VALUES (NEW.id, NEW.name);
+            END
+            """);
+    }
+
+    // Version 7: tasks.collection_id gets ON DELETE CASCADE, so deleting a
+    // collection is one statement (Database turns foreign keys on). Tasks whose
+    // collection is already gone could never be listed and would fail the
+    // constraint, so they are dropped first, through the triggers that keep the
+    // stats and search index in step. The rebuild drops the tasks triggers and
+    // indexes, which are created again.
+    private static void cascadingTaskDeletes(Statement stmt) throws SQLException {
+        stmt.execute("DELETE FROM tasks WHERE collection_id NOT IN (SELECT id FROM collections)");
+
+        stmt.execute("""
+            CREATE TABLE tasks_new (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL COLLATE NOCASE,
+                status TEXT NOT NULL DEFAULT 'todo',
+                due_date INTEGER,
+                created_at INTEGER NOT NULL,
+                updated_at INTEGER,
+                collection_id INTEGER NOT NULL,
+                FOREIGN KEY (collection_id) REFERENCES collections (id) ON DELETE CASCADE
+            )
+            """);
+        stmt.execute("""
+            INSERT INTO tasks_new (id, name, status, due_date, created_at, updated_at, collection_id)
+            SELECT id, name, status, due_date, created_at, updated_at, collection_id FROM tasks
+            """);
+        stmt.execute("DROP TABLE tasks");
+        stmt.execute("ALTER TABLE tasks_new RENAME TO tasks");
+
+        stmt.execute("CREATE INDEX idx_tasks_collection_status_created ON tasks (collection_id, status, created_at)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_created ON tasks (collection_id, created_at)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_name ON tasks (collection_id, name)");
+        stmt.execute("CREATE INDEX idx_tasks_collection_due ON tasks (collection_id, due_date)");
+
+        // The collections triggers survived, drop them so the shared helper can create the full set
+        stmt.execute("DROP TRIGGER collections_stats_insert");
+        stmt.execute("DROP TRIGGER collections_stats_delete");
+        createCollectionStatsTriggers(stmt);
+        createTaskSearchTriggers(stmt);
+    }
+
+    // Version 8: the active collection moves from an is_active flag on every
+    // collection to one row holding its id and name, so resolving it is a
+    // primary key read and switching is one write. Renames are copied by a
+    // trigger and deleting the collection clears the pointer by cascade.
+    private static void activeCollectionPointer(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE active_collection (
+                id INTEGER PRIMARY KEY CHECK (id = 1),
+                collection_id INTEGER NOT NULL,
+                name TEXT NOT NULL COLLATE NOCASE,
+                FOREIGN KEY (collection_id) REFERENCES collections (id) ON DELETE CASCADE
+            )
+            """);
+        stmt.execute("""
+            INSERT INTO active_collection (id, collection_id, name)
+            SELECT 1, id, name FROM collections WHERE is_active = 1 ORDER BY id LIMIT 1
+            """);
+        stmt.execute("""
+            CREATE TRIGGER collections_active_rename AFTER UPDATE OF name ON collections
+            BEGIN
+                UPDATE active_collection SET name = NEW.name WHERE collection_id = NEW.id;
+            END
+            """);
+
+        stmt.execute("DROP INDEX IF EXISTS idx_collections_active");
+        stmt.execute("ALTER TABLE collections DROP COLUMN is_active");
+    }
+
+    // Version 9: cold storage for done tasks moved out by 'archive'. Rows keep
+    // their task id, and tasks ids are AUTOINCREMENT so they are never handed
+    // out again. No stats or search triggers: archived tasks are left out of
+    // both.
+    private static void archivedTasks(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE archived_tasks (
+                id INTEGER PRIMARY KEY,
+                name TEXT NOT NULL COLLATE NOCASE,
+                status TEXT NOT NULL,
+                due_date INTEGER,
+                created_at INTEGER NOT NULL,
+                updated_at INTEGER,
+                collection_id INTEGER NOT NULL,
+                archived_at INTEGER NOT NULL,
+                FOREIGN KEY (collection_id) REFERENCES collections (id) ON DELETE CASCADE
+            )
+            """);
+        stmt.execute("CREATE INDEX idx_archived_tasks_collection_created ON archived_tasks (collection_id, created_at)");
+    }
+
+    // Version 10: what 'list task --watch' reads to follow a collection. New
+    // tasks need no entry: ids are AUTOINCREMENT and writers take turns, so a
+    // watcher finds them past the highest id it has seen. Every update and
+    // delete gives the task's one row the next sequence number, which grows
+    // in commit order, so no write is missed whatever its timestamp or the
+    // writer's clock; a delete leaves its row behind so a watcher learns
+    // which task went. Tasks deleted along with their collection log nothing
+    // (the cascade runs once the collection row is gone), and the collection's
+    // rows go with it. changed_at is only for pruning old rows, from SQLite's
+    // clock. Tasks never change collection, so the row's collection is the
+    // task's. The log stays small, so its collection is not indexed.
+    private static void taskChangeLog(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE task_changes (
+                task_id INTEGER PRIMARY KEY,
+                collection_id INTEGER NOT NULL,
+                seq INTEGER NOT NULL,
+                changed_at INTEGER NOT NULL
+            )
+            """);
+        stmt.execute("CREATE UNIQUE INDEX idx_task_changes_seq ON task_changes (seq)");
+
+        stmt.execute("""
+            CREATE TRIGGER tasks_change_update AFTER UPDATE ON tasks
+            BEGIN
+                INSERT OR REPLACE INTO task_changes (task_id, collection_id, seq, changed_at)
+                VALUES (NEW.id, NEW.collection_id, (SELECT IFNULL(MAX(seq), 0) + 1 FROM task_changes),
+                        CAST(unixepoch('subsec') * 1000 AS INTEGER));
+            END
+            """);
+
+        stmt.execute("""
+            CREATE TRIGGER tasks_change_delete AFTER DELETE ON tasks
+            WHEN EXISTS (SELECT 1 FROM collections WHERE id = OLD.collection_id)
+            BEGIN
+                INSERT OR REPLACE INTO task_changes (task_id, collection_id, seq, changed_at)
+                VALUES (OLD.id, OLD.collection_id, (SELECT IFNULL(MAX(seq), 0) + 1 FROM task_changes),
+                        CAST(unixepoch('subsec') * 1000 AS INTEGER));
+            END
+            """);
+
+        stmt.execute("""
+            CREATE TRIGGER collections_change_delete AFTER DELETE ON collections
+            BEGIN
+                DELETE FROM task_changes WHERE collection_id = OLD.id;
+            END
+            """);
+    }
+
+    // Copy every row of a SELECT into an INSERT with the same column order,
+    // converting legacy text timestamps in the named columns to epoch millis
+    private static void copyConvertingTimestamps(Connection connection, String select, String insert,
+            Set<String> timestampColumns) throws SQLException {
+
+        try (Statement read = connection.createStatement();
+                ResultSet rs = read.executeQuery(select);
+                PreparedStatement write = connection.prepareStatement(insert)) {
+
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            int pending = 0;
+
+            while (rs.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    Object value = rs.getObject(i);
+                    if (timestampColumns.contains(meta.getColumnName(i))) {
+                        value = legacyToMillis(value);
+                    }
+                    write.setObject(i, value);
+                }
+                write.addBatch();
+
+                if (++pending == 1000) {
+                    write.executeBatch();
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                write.executeBatch();
+            }
+        }
+    }
+
+    private static Long legacyToMillis(Object value) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+
+        String text = value.toString().trim();
+        try {
+            return Timestamps.toMillis(LocalDateTime.parse(text, LEGACY_DATETIME));
+        } catch (DateTimeParseException e) {
+            throw new SQLException("Unreadable timestamp '" + text + "'", e);
+        }
+    }
+
+    @FunctionalInterface
+    interface Step {
+        void apply(Statement stmt) throws SQLException;
+    }
+
+    record Migration(int version, String description, Step step) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.kanban_cli.db;
+
+import com.example.kanban_cli.model.Task;
+
+// Position of the last task of a page in (created_at, id) order, written as
+// "<created_at>:<id>" so it can be passed back on the command line
+public record PageCursor(long createdAt, int id) {
+
+    public static PageCursor of(Task task) {
+        return new PageCursor(task.getCreatedAtMillis(), task.getId());
+    }
+
+    public static PageCursor parse(String text) {
+        String value = text.trim();
+        int colon = value.indexOf(':');
+        try {
+            if (colon > 0) {
+                return new PageCursor(Long.parseLong(value.substring(0, colon)),
+                        Integer.parseInt(value.substring(colon + 1)));
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid cursor '" + value + "'. Use the value printed after the last page.");
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + ":" + id;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.kanban_cli.db;
+
+import java.io.PrintStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Counts and times every JDBC call made through a wrapped connection, for --profile.
+// Statements and result sets handed out by the connection are wrapped as well,
+// so rows read are counted as the caller steps through them.
+public class Profiler {
+
+    private static final int SQL_WIDTH = 100;
+
+    private final Map<String, SqlStats> bySql = new HashMap<>();
+    private long prepared;
+    private long executed;
+    private long rowsRead;
+    private long rowsWritten;
+    private long commits;
+    private long rollbacks;
+    private long databaseNanos;
+
+    // Executions, rows and time spent in statements and result sets of one SQL text
+    private static final class SqlStats {
+        private final String sql;
+        private long executions;
+        private long rows;
+        private long nanos;
+
+        private SqlStats(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    public Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, null);
+    }
+
+    // Print the counters and the statements that took longest, then the split of
+    // wall time: startup and command time are measured by the caller
+    public void printSummary(PrintStream out, long startupNanos, long commandNanos) {
+        long other = Math.max(commandNanos - databaseNanos, 0);
+        out.printf(Locale.ROOT, "Profile: %s total, startup %s, database %s, rendering and other %s%n",
+                millis(startupNanos + commandNanos), millis(startupNanos), millis(databaseNanos), millis(other));
+        out.printf(Locale.ROOT, "Statements: %d prepared, %d executed, %d row(s) read, %d row(s) written, "
+                + "%d commit(s), %d rollback(s)%n", prepared, executed, rowsRead, rowsWritten, commits, rollbacks);
+
+        if (bySql.isEmpty()) {
+            return;
+        }
+
+        List<SqlStats> stats = new ArrayList<>(bySql.values());
+        stats.sort(Comparator.comparingLong((SqlStats s) -> s.nanos).reversed());
+
+        out.printf(Locale.ROOT, "%8s %10s %11s  %s%n", "CALLS", "ROWS", "TIME", "SQL");
+        for (SqlStats s : stats) {
+            out.printf(Locale.ROOT, "%8d %10d %11s  %s%n", s.executions, s.rows, millis(s.nanos), s.sql);
+        }
+    }
+
+    // Helper methods
+
+    private <T> T proxy(Class<T> type, T target, String sql) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new Handler(target, sql));
+        return type.cast(proxy);
+    }
+
+    private SqlStats stats(String sql) {
+        return bySql.computeIfAbsent(sql, key -> new SqlStats(oneLine(key)));
+    }
+
+    private static String oneLine(String sql) {
+        String line = sql.trim().replaceAll("\\s+", " ");
+        return line.length() > SQL_WIDTH ? line.substring(0, SQL_WIDTH - 3) + "..." : line;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", nanos / 1_000_000.0);
+    }
+
+    // One handler per wrapped object. sql is the statement text for prepared
+    // statements and their result sets; plain statements learn it per execute call.
+    private final class Handler implements InvocationHandler {
+        private final Object target;
+        private String sql;
+
+        private Handler(Object target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (target instanceof Statement && !(target instanceof PreparedStatement)
+                    && name.startsWith("execute") && args != null && args[0] instanceof String text) {
+                sql = text;
+            }
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                databaseNanos += elapsed;
+                if (sql != null) {
+                    stats(sql).nanos += elapsed;
+                }
+            }
+
+            return record(name, args, result);
+        }
+
+        private Object record(String name, Object[] args, Object result) throws Exception {
+            if (target instanceof Connection) {
+                switch (name) {
+                    case "prepareStatement" -> {
+                        prepared++;
+                        return proxy(PreparedStatement.class, (PreparedStatement) result, (String) args[0]);
+                    }
+                    case "createStatement" -> {
+                        return proxy(Statement.class, (Statement) result, null);
+                    }
+                    case "commit" -> commits++;
+                    case "rollback" -> rollbacks++;
+                    default -> {
+                    }
+                }
+                return result;
+            }
+
+            if (target instanceof Statement statement) {
+                switch (name) {
+                    case "executeQuery" -> executed(0);
+                    case "executeUpdate", "executeLargeUpdate" -> executed(((Number) result).longValue());
+                    case "executeBatch" -> {
+                        long rows = 0;
+                        for (int count : (int[]) result) {
+                            rows += Math.max(count, 0);
+                        }
+                        executed(rows);
+                    }
+                    case "execute" -> executed(Boolean.FALSE.equals(result) ? Math.max(statement.getUpdateCount(), 0) : 0);
+                    default -> {
+                    }
+                }
+                if (result instanceof ResultSet rs && sql != null) {
+                    return proxy(ResultSet.class, rs, sql);
+                }
+                return result;
+            }
+
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rowsRead++;
+                stats(sql).rows++;
+            }
+            return result;
+        }
+
+        private void executed(long written) {
+            executed++;
+            rowsWritten += written;
+            SqlStats s = stats(sql != null ? sql : "(batch)");
+            s.executions++;
+            s.rows += written;
+        }
+    }
+}
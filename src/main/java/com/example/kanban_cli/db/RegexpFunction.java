@@ -0,0 +1,55 @@
+package com.example.kanban_cli.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.sqlite.Function;
+
+// SQLite has the REGEXP operator but no implementation: "name REGEXP ?" calls
+// regexp(pattern, name), provided here with java.util.regex. Patterns ignore
+// case like every name comparison does, and match anywhere unless anchored.
+final class RegexpFunction extends Function {
+
+    // Compiled patterns by source, least recently used dropped first. A
+    // selection such as -r a -r b calls regexp with each of its patterns on
+    // the same row, so one remembered pattern would be recompiled every call.
+    private static final int PATTERN_CACHE_SIZE = 32;
+
+    private final Map<String, Pattern> patterns = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > PATTERN_CACHE_SIZE;
+        }
+    };
+
+    static void register(Connection connection) throws SQLException {
+        Function.create(connection, "REGEXP", new RegexpFunction(), 2, Function.FLAG_DETERMINISTIC);
+    }
+
+    @Override
+    protected void xFunc() throws SQLException {
+        String regex = value_text(0);
+        String text = value_text(1);
+        if (regex == null || text == null) {
+            result();
+            return;
+        }
+
+        // Each pattern is compiled once however many rows and patterns a statement has
+        Pattern pattern = patterns.get(regex);
+        if (pattern == null) {
+            try {
+                pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+            } catch (PatternSyntaxException e) {
+                error("Invalid regular expression: " + e.getDescription());
+                return;
+            }
+            patterns.put(regex, pattern);
+        }
+        result(pattern.matcher(text).find() ? 1 : 0);
+    }
+}
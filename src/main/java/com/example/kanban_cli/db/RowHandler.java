@@ -0,0 +1,9 @@
+package com.example.kanban_cli.db;
+
+import java.io.IOException;
+
+// Receives rows one at a time while a DAO walks a forward-only cursor
+@FunctionalInterface
+public interface RowHandler<T> {
+    void handle(T row) throws IOException;
+}
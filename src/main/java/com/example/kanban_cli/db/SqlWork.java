@@ -0,0 +1,9 @@
+package com.example.kanban_cli.db;
+
+import java.sql.SQLException;
+
+// A unit of database work run by Database.inTransaction
+@FunctionalInterface
+public interface SqlWork<T> {
+    T run() throws SQLException;
+}
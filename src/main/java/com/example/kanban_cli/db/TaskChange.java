@@ -0,0 +1,9 @@
+package com.example.kanban_cli.db;
+
+import com.example.kanban_cli.model.Task;
+
+// A task created or changed since a watcher's mark: the sequence number of its
+// last logged change (0 for a new task with none yet), and the task as it is
+// now, or null once it has been deleted.
+public record TaskChange(long seq, int taskId, Task task) {
+}
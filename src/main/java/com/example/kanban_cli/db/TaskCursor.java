@@ -0,0 +1,41 @@
+package com.example.kanban_cli.db;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.example.kanban_cli.model.Task;
+
+// Tasks pulled one at a time off an open result set, for callers that read
+// several queries in step. Owns its statement, so it must be closed.
+public final class TaskCursor implements AutoCloseable {
+
+    private final TaskDAO dao;
+    private final PreparedStatement stmt;
+    private final ResultSet rs;
+    private boolean exhausted;
+
+    TaskCursor(TaskDAO dao, PreparedStatement stmt, ResultSet rs) {
+        this.dao = dao;
+        this.stmt = stmt;
+        this.rs = rs;
+    }
+
+    // The next task, or null once every row has been read
+    public Task next() throws SQLException {
+        if (exhausted || !rs.next()) {
+            exhausted = true;
+            return null;
+        }
+        return dao.mapResultSetToTask(rs);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            rs.close();
+        } finally {
+            stmt.close();
+        }
+    }
+}
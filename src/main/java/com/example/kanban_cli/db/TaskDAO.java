@@ -1,20 +1,37 @@
 package com.example.kanban_cli.db;
 
+import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.example.kanban_cli.Context;
+import com.example.kanban_cli.io.JsonLinesReader;
 import com.example.kanban_cli.model.Task;
 
 public class TaskDAO {
 
+    // How long change log rows are kept for watchers
+    private static final long CHANGE_RETENTION = 24 * 3_600_000L;
+
+    // A changed task's columns, in the same order in both halves of a UNION
+    private static final String TASK_COLUMNS
+            = "t.id, t.name, t.status, t.due_date, t.created_at, t.updated_at, t.collection_id";
+
+    // A changed task's columns read from the board, or from the archive once it
+    // has been moved there: a task is in one table or the other, never both
+    private static final String ARCHIVE_FALLBACK_COLUMNS = "IFNULL(t.id, a.id) AS id,"
+            + " IFNULL(t.name, a.name) AS name, IFNULL(t.status, a.status) AS status,"
+            + " CASE WHEN t.id IS NULL THEN a.due_date ELSE t.due_date END AS due_date,"
+            + " IFNULL(t.created_at, a.created_at) AS created_at,"
+            + " CASE WHEN t.id IS NULL THEN a.updated_at ELSE t.updated_at END AS updated_at,"
+            + " IFNULL(t.collection_id, a.collection_id) AS collection_id";
+
     private final Database database;
-    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
     public TaskDAO() {
         this.database = Database.getInstance();
@@ -22,42 +39,209 @@ public class TaskDAO {
 
     // CRUD operations for Task
     public void createTask(Task task) {
-        String sql = "INSERT INTO tasks (name, status, due_date, created_at, collection_id) VALUES (?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO tasks (name, status, due_date, created_at, collection_id) VALUES (?, ?, ?, ?, ?) RETURNING id";
+
+        long now = System.currentTimeMillis();
+
+        try {
+            // Insert and collection touch commit together
+            Integer id = database.inTransaction(() -> {
+                PreparedStatement pstmt = database.prepare(sql);
+                pstmt.setString(1, task.getName());
+                pstmt.setString(2, task.getStatus());
+                pstmt.setObject(3, task.getDueDateMillis());
+                pstmt.setLong(4, now);
+                pstmt.setInt(5, task.getCollectionId());
+
+                int newId;
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    newId = rs.getInt(1);
+                }
+
+                CollectionDAO.touch(database, task.getCollectionId(), now);
+                return newId;
+            });
+
+            if (id == null) {
+                System.err.println("Failed to create task '" + task.getName() + "'.");
+            } else {
+                // The new id is shown with the task and can be used as #<id>
+                task.setId(id);
+            }
 
-        LocalDateTime now = LocalDateTime.now();
+        } catch (SQLException e) {
+            System.err.println("Error creating task: " + e.getMessage());
+        }
+    }
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, task.getName());
-            pstmt.setString(2, task.getStatus());
-            pstmt.setString(3, task.getDueDate() != null ? task.getDueDate().format(DATETIME) : null);
-            pstmt.setString(4, now.format(DATETIME));
-            pstmt.setInt(5, task.getCollectionId());
+    // Insert many tasks with one JDBC batch in one transaction, touching each
+    // affected collection once. A task with an archived_at goes to the archive:
+    // it is inserted on its own to get its id from the tasks sequence, which
+    // keeps ids unique across both tables, then moved over with the others as
+    // 'archive' would. Returns the number of rows inserted.
+    public int insertBatch(List<Task> tasks) {
+        String sql = "INSERT INTO tasks (name, status, due_date, created_at, updated_at, collection_id) VALUES (?, ?, ?, ?, ?, ?)";
+        String single = sql + " RETURNING id";
+        String copy = "INSERT INTO archived_tasks"
+                + " (id, name, status, due_date, created_at, updated_at, collection_id, archived_at)"
+                + " SELECT t.id, t.name, t.status, t.due_date, t.created_at, t.updated_at, t.collection_id,"
+                + " a.value ->> 1 FROM json_each(?) a JOIN tasks t ON t.id = a.value ->> 0";
+        String delete = "DELETE FROM tasks WHERE id IN (SELECT value ->> 0 FROM json_each(?))";
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
 
-            int rowsAffected = pstmt.executeUpdate();
+        long now = System.currentTimeMillis();
+
+        try {
+            return database.inTransaction(() -> {
+                PreparedStatement pstmt = database.prepare(sql);
+                Set<Integer> collectionIds = new HashSet<>();
+                StringBuilder archived = new StringBuilder("[");
+                int inserted = 0;
+
+                for (Task task : tasks) {
+                    collectionIds.add(task.getCollectionId());
+                    if (task.getArchivedAtMillis() == null) {
+                        bindInsert(pstmt, task);
+                        pstmt.addBatch();
+                        continue;
+                    }
+
+                    PreparedStatement one = database.prepare(single);
+                    bindInsert(one, task);
+                    try (ResultSet rs = one.executeQuery()) {
+                        rs.next();
+                        archived.append(archived.length() > 1 ? "," : "")
+                                .append('[').append(rs.getInt(1)).append(',').append(task.getArchivedAtMillis())
+                                .append(']');
+                    }
+                    inserted++;
+                }
+
+                for (int rows : pstmt.executeBatch()) {
+                    inserted += Math.max(rows, 0);
+                }
+
+                if (archived.length() > 1) {
+                    String pairs = archived.append(']').toString();
+                    pstmt = database.prepare(copy);
+                    pstmt.setString(1, pairs);
+                    pstmt.executeUpdate();
+                    pstmt = database.prepare(delete);
+                    pstmt.setString(1, pairs);
+                    pstmt.executeUpdate();
+                }
+
+                for (int collectionId : collectionIds) {
+                    CollectionDAO.touch(database, collectionId, now);
+                }
+                return inserted;
+            });
 
-            if (rowsAffected > 0) {
-                CollectionDAO collectionDAO = new CollectionDAO();
-                collectionDAO.updateUpdatedAt(task.getCollectionId(), now);
+        } catch (SQLException e) {
+            System.err.println("Error inserting tasks: " + e.getMessage());
+            return 0;
+        }
+    }
 
-            } else {
-                System.err.println("Failed to create task '" + task.getName() + "'.");
+    // A name folded the way COLLATE NOCASE compares it: only ASCII letters
+    // change case, so "É" and "é" stay two names, as they are in the table
+    public static String foldName(String name) {
+        StringBuilder folded = null;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (folded == null) {
+                    folded = new StringBuilder(name);
+                }
+                folded.setCharAt(i, (char) (c + ('a' - 'A')));
+            }
+        }
+        return folded != null ? folded.toString() : name;
+    }
+
+    // Which of the given names a collection already has, folded with foldName.
+    // One lookup per import batch on idx_tasks_collection_name, so only the
+    // batch's names are ever held in memory
+    public Set<String> findExistingNames(int collectionId, List<String> names) {
+        String sql = "SELECT name FROM tasks WHERE collection_id = ? AND name IN (SELECT value FROM json_each(?))";
+        Set<String> existing = new HashSet<>();
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, collectionId);
+            pstmt.setString(2, stringArray(names));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(foldName(rs.getString("name")));
+                }
             }
 
         } catch (SQLException e) {
-            System.err.println("Error creating task: " + e.getMessage());
+            System.err.println("Error checking task names: " + e.getMessage());
+            return null;
+        }
+        return existing;
+    }
+
+    // "#<id>" addresses a task by primary key, from any collection
+    public static boolean isIdReference(String reference) {
+        return reference != null && reference.trim().matches("#\\d+");
+    }
+
+    // Resolve "#<id>" by primary key, anything else as a name in the active collection
+    public Task findTask(String reference) {
+        String value = reference.trim();
+        if (!isIdReference(value)) {
+            return getTaskByName(value);
+        }
+
+        try {
+            return getTaskById(Integer.parseInt(value.substring(1)));
+        } catch (NumberFormatException e) {
+            // Too large to be an id
+            return null;
         }
     }
 
+    public Task getTaskById(int id) {
+        String sql = "SELECT * FROM tasks WHERE id = ?";
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToTask(rs);
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error getting task by id: " + e.getMessage());
+        }
+        return null;
+    }
+
     public Task getTaskByName(String name) {
-        String sql = "SELECT * FROM tasks WHERE LOWER(name) = LOWER(?) AND collection_id = ?";
+        return getTaskByName(Context.getActiveCollection().getId(), name);
+    }
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, name.trim().toLowerCase());
-            pstmt.setInt(2, Context.getActiveCollection().getId());
-            ResultSet rs = pstmt.executeQuery();
+    public Task getTaskByName(int collectionId, String name) {
+        String sql = "SELECT * FROM tasks WHERE collection_id = ? AND name = ?";
 
-            if (rs.next()) {
-                return mapResultSetToTask(rs);
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, collectionId);
+            pstmt.setString(2, name.trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToTask(rs);
+                }
             }
 
         } catch (SQLException e) {
@@ -70,12 +254,13 @@ public class TaskDAO {
         String sql = "SELECT * FROM tasks WHERE collection_id = ? ORDER BY created_at DESC";
         List<Task> tasks = new ArrayList<>();
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setInt(1, Context.getActiveCollection().getId());
-            ResultSet rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                tasks.add(mapResultSetToTask(rs));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs));
+                }
             }
 
         } catch (SQLException e) {
@@ -85,16 +270,17 @@ public class TaskDAO {
     }
 
     public List<Task> getTasksByStatus(String status) {
-        String sql = "SELECT * FROM tasks WHERE LOWER(status) = LOWER(?) AND collection_id = ? ORDER BY created_at DESC";
+        String sql = "SELECT * FROM tasks WHERE collection_id = ? AND status = ? ORDER BY created_at DESC";
         List<Task> tasks = new ArrayList<>();
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-            pstmt.setString(1, status.trim().toLowerCase());
-            pstmt.setInt(2, Context.getActiveCollection().getId());
-            ResultSet rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                tasks.add(mapResultSetToTask(rs));
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, Context.getActiveCollection().getId());
+            pstmt.setString(2, status.trim().toLowerCase());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs));
+                }
             }
 
         } catch (SQLException e) {
@@ -107,12 +293,13 @@ public class TaskDAO {
         String sql = "SELECT * FROM tasks WHERE collection_id = ? ORDER BY created_at DESC";
         List<Task> tasks = new ArrayList<>();
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setInt(1, collectionId);
-            ResultSet rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                tasks.add(mapResultSetToTask(rs));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs));
+                }
             }
 
         } catch (SQLException e) {
@@ -121,15 +308,215 @@ public class TaskDAO {
         return tasks;
     }
 
+    // Walk a collection's tasks oldest first on a forward-only cursor, handing
+    // each row to the handler so callers never hold the whole list. With since,
+    // only tasks created or updated at or after that time are visited, with
+    // includeArchived archived tasks are walked as well, with their archived_at.
+    // Returns the number of tasks visited, or -1 if the query failed.
+    public long forEachTask(int collectionId, Long since, boolean includeArchived, RowHandler<Task> handler)
+            throws IOException {
+        String sql = "SELECT * FROM " + source(includeArchived) + " WHERE collection_id = ?"
+                + (since != null ? " AND COALESCE(updated_at, created_at) >= ?" : "")
+                + " ORDER BY created_at, id";
+        long count = 0;
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, collectionId);
+            if (since != null) {
+                pstmt.setLong(2, since);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Task task = mapResultSetToTask(rs);
+                    if (includeArchived) {
+                        long archivedAt = rs.getLong("archived_at");
+                        if (!rs.wasNull()) {
+                            task.setArchivedAtMillis(archivedAt);
+                        }
+                    }
+                    handler.handle(task);
+                    count++;
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error reading tasks: " + e.getMessage());
+            return -1;
+        }
+        return count;
+    }
+
+    // Stream one page of a collection's tasks, newest first, optionally limited
+    // to one status. Pages are keyset-paginated on (created_at, id): the page
+    // starts right after the given cursor, so a deep page is an index range
+    // scan rather than an OFFSET that walks every earlier row. A negative limit
+    // means no limit. With includeArchived archived tasks are paged through as
+    // well. Returns the number of tasks visited, or -1 on error.
+    public long forEachTaskPage(int collectionId, String status, PageCursor after, int limit,
+            boolean includeArchived, RowHandler<Task> handler) throws IOException {
+        String sql = pageSql(status, after, includeArchived);
+        long count = 0;
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            bindPage(pstmt, collectionId, status, after, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToTask(rs));
+                    count++;
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error listing tasks: " + e.getMessage());
+            return -1;
+        }
+        return count;
+    }
+
+    // The same page as forEachTaskPage, but pulled one task at a time, so a
+    // caller can step through several pages side by side. The cursor has a
+    // statement of its own and must be closed. Returns null on error.
+    public TaskCursor openTaskPage(int collectionId, String status, PageCursor after, int limit,
+            boolean includeArchived) {
+        String sql = pageSql(status, after, includeArchived);
+
+        try {
+            PreparedStatement pstmt = database.prepareUncached(sql);
+            try {
+                bindPage(pstmt, collectionId, status, after, limit);
+                return new TaskCursor(this, pstmt, pstmt.executeQuery());
+            } catch (SQLException e) {
+                pstmt.close();
+                throw e;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error listing tasks: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Where a watcher starts reading changes from, both halves in one read:
+    // the highest task id and the last sequence number in the change log,
+    // each a single index lookup. Returns null on error.
+    public ChangeMark changeMark() {
+        String sql = "SELECT (SELECT IFNULL(MAX(id), 0) FROM tasks) AS max_id,"
+                + " (SELECT IFNULL(MAX(seq), 0) FROM task_changes) AS max_seq";
+
+        try (ResultSet rs = database.prepare(sql).executeQuery()) {
+            return rs.next() ? new ChangeMark(rs.getInt("max_id"), rs.getLong("max_seq")) : null;
+
+        } catch (SQLException e) {
+            System.err.println("Error reading task changes: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Stream the collection's tasks created, updated or deleted past the mark:
+    // new tasks as a range of the rowid (the unary + keeps the planner off the
+    // collection index, which would visit every task of the collection), and
+    // changes as a range of the change log's seq index with one lookup each.
+    // Both halves are one statement, so they read one snapshot. A deleted
+    // task comes with a null task, unless includeArchived finds it in the
+    // archive. Returns the number of changes visited, or -1 if the query failed.
+    public long forEachChangedTask(int collectionId, ChangeMark since, boolean includeArchived,
+            RowHandler<TaskChange> handler) throws IOException {
+        String sql = "SELECT c.seq, c.task_id, " + (includeArchived ? ARCHIVE_FALLBACK_COLUMNS : TASK_COLUMNS)
+                + " FROM task_changes c LEFT JOIN tasks t ON t.id = c.task_id"
+                + (includeArchived ? " LEFT JOIN archived_tasks a ON a.id = c.task_id" : "")
+                + " WHERE c.seq > ? AND c.collection_id = ?"
+                + " UNION ALL SELECT 0, t.id, " + TASK_COLUMNS
+                + " FROM tasks t WHERE t.id > ? AND +t.collection_id = ?";
+        long count = 0;
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setLong(1, since.seq());
+            pstmt.setInt(2, collectionId);
+            pstmt.setInt(3, since.id());
+            pstmt.setInt(4, collectionId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Task task = rs.getObject("id") != null ? mapResultSetToTask(rs) : null;
+                    handler.handle(new TaskChange(rs.getLong("seq"), rs.getInt("task_id"), task));
+                    count++;
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error reading task changes: " + e.getMessage());
+            return -1;
+        }
+        return count;
+    }
+
+    // Drop change log rows older than CHANGE_RETENTION, timed by SQLite's clock
+    // like changed_at itself. A watcher reads the log every few seconds, so a
+    // day also covers one left suspended overnight, and the log stays as small
+    // as the updates and deletes of a day. Returns the number of rows removed,
+    // or -1 on error.
+    public int pruneChanges() {
+        String sql = "DELETE FROM task_changes WHERE changed_at < CAST(unixepoch('subsec') * 1000 AS INTEGER) - ?";
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setLong(1, CHANGE_RETENTION);
+            return pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            System.err.println("Error pruning task changes: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    // Stream tasks whose name matches an FTS5 query, best match first (bm25),
+    // from one collection or from all when collectionId is null. Returns the
+    // number of matches, or -1 if the query failed (for example a syntax error).
+    public long search(String matchQuery, Integer collectionId, int limit, RowHandler<Task> handler) throws IOException {
+        // CROSS JOIN keeps the full-text index as the outer loop. Otherwise the
+        // planner may walk the collection's tasks and probe the index per row.
+        String sql = "SELECT t.* FROM tasks_fts CROSS JOIN tasks t ON t.id = tasks_fts.rowid"
+                + " WHERE tasks_fts MATCH ?"
+                + (collectionId != null ? " AND t.collection_id = ?" : "")
+                + " ORDER BY tasks_fts.rank LIMIT ?";
+        long count = 0;
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            int index = 1;
+            pstmt.setString(index++, matchQuery);
+            if (collectionId != null) {
+                pstmt.setInt(index++, collectionId);
+            }
+            pstmt.setInt(index, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToTask(rs));
+                    count++;
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error searching tasks: " + e.getMessage());
+            return -1;
+        }
+        return count;
+    }
+
     public int getTaskCountByCollectionId(int collectionId) {
         String sql = "SELECT COUNT(*) AS cnt FROM tasks WHERE collection_id = ?";
 
-        try (PreparedStatement stmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement stmt = database.prepare(sql);
             stmt.setInt(1, collectionId);
-            ResultSet rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                return rs.getInt("cnt");
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("cnt");
+                }
             }
 
         } catch (SQLException e) {
@@ -141,11 +528,12 @@ public class TaskDAO {
     public void updateTask(Task task) {
         String sql = "UPDATE tasks SET name = ?, status = ?, due_date = ?, updated_at = ? WHERE id = ?";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setString(1, task.getName());
             pstmt.setString(2, task.getStatus());
-            pstmt.setString(3, task.getDueDate() != null ? task.getDueDate().format(DATETIME) : null);
-            pstmt.setString(4, LocalDateTime.now().format(DATETIME));
+            pstmt.setObject(3, task.getDueDateMillis());
+            pstmt.setLong(4, System.currentTimeMillis());
             pstmt.setInt(5, task.getId());
 
             pstmt.executeUpdate();
@@ -158,15 +546,17 @@ public class TaskDAO {
     public int moveAllByStatus(int collectionId, String fromStatus, String toStatus) {
         String sql = """
         UPDATE tasks
-        SET status = ?
+        SET status = ?, updated_at = ?
         WHERE collection_id = ?
           AND status = ?
     """;
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setString(1, toStatus);
-            pstmt.setInt(2, collectionId);
-            pstmt.setString(3, fromStatus);
+            pstmt.setLong(2, System.currentTimeMillis());
+            pstmt.setInt(3, collectionId);
+            pstmt.setString(4, fromStatus);
 
             return pstmt.executeUpdate();
 
@@ -176,10 +566,66 @@ public class TaskDAO {
         }
     }
 
+    // Every task the selection matches, as it is now, for a caller that wants
+    // to show or confirm the matches before moving them. Returns null on error.
+    public List<Task> findSelected(TaskSelection selection, int collectionId) {
+        try {
+            return selectMatches(selection, collectionId);
+        } catch (SQLException e) {
+            System.err.println("Error finding tasks: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Move every selected task to status in one transaction. The selection is
+    // resolved to ids once and the UPDATE is keyed on exactly those ids, so the
+    // tasks returned for the report are the tasks moved, as they were before
+    // the move. collectionId is only used by name matches. Returns null on error.
+    public List<Task> moveSelected(TaskSelection selection, int collectionId, String status) {
+        try {
+            return database.inTransaction(() -> {
+                List<Task> matched = selectMatches(selection, collectionId);
+                moveByIds(matched, status);
+                return matched;
+            });
+
+        } catch (SQLException e) {
+            System.err.println("Error moving tasks: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Move the tasks with these ids, typically a confirmed preview, in one
+    // transaction. Tasks deleted since are left out of the returned list,
+    // the others are returned as they were before the move. Returns null on error.
+    public List<Task> moveTasks(List<Integer> ids, String status) {
+        String sql = "SELECT * FROM tasks WHERE id IN (SELECT value FROM json_each(?))";
+
+        try {
+            return database.inTransaction(() -> {
+                List<Task> matched = new ArrayList<>();
+                PreparedStatement pstmt = database.prepare(sql);
+                pstmt.setString(1, idArray(ids));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        matched.add(mapResultSetToTask(rs));
+                    }
+                }
+                moveByIds(matched, status);
+                return matched;
+            });
+
+        } catch (SQLException e) {
+            System.err.println("Error moving tasks: " + e.getMessage());
+            return null;
+        }
+    }
+
     public void deleteTask(int id) {
         String sql = "DELETE FROM tasks WHERE id = ?";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setInt(1, id);
 
             pstmt.executeUpdate();
@@ -192,8 +638,8 @@ public class TaskDAO {
     public void deleteByCollectionId(int collectionId) {
         String sql = "DELETE FROM tasks WHERE collection_id = ?";
 
-        try (PreparedStatement pstmt = database.getConnection().prepareStatement(sql)) {
-
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
             pstmt.setInt(1, collectionId);
             pstmt.executeUpdate();
 
@@ -203,30 +649,262 @@ public class TaskDAO {
         }
     }
 
+    // Delete every task of a collection due before the cutoff in one indexed
+    // statement, optionally limited to one status. With dryRun the matching
+    // rows are only counted. Returns the number of tasks affected.
+    public int deleteExpired(int collectionId, String status, long dueBefore, boolean dryRun) {
+        String where = "WHERE collection_id = ? AND due_date < ?" + (status != null ? " AND status = ?" : "");
+        String sql = dryRun
+                ? "SELECT COUNT(*) AS cnt FROM tasks " + where
+                : "DELETE FROM tasks " + where;
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, collectionId);
+            pstmt.setLong(2, dueBefore);
+            if (status != null) {
+                pstmt.setString(3, status);
+            }
+
+            if (!dryRun) {
+                return pstmt.executeUpdate();
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt("cnt") : 0;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error removing expired tasks: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    // One archive batch: how many tasks moved, and the highest id looked at,
+    // where the next batch starts
+    public record Archived(int count, int lastId) {
+    }
+
+    // How many done tasks last changed before the cutoff 'archive' would move,
+    // from one collection or from all when collectionId is null. Returns -1 on error.
+    public int countArchivable(Integer collectionId, long changedBefore) {
+        String sql = "SELECT COUNT(*) AS cnt FROM tasks WHERE status = 'done' AND COALESCE(updated_at, created_at) < ?"
+                + (collectionId != null ? " AND collection_id = ?" : "");
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            bindArchive(pstmt, 1, collectionId, changedBefore);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt("cnt") : 0;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error archiving tasks: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    // Move the next batch of done tasks last changed before the cutoff into
+    // archived_tasks: the first batchSize of them past afterId, in id order,
+    // from one collection or from all when collectionId is null. The batch is
+    // read once as a keyset walk up the rowid, so across batches the table is
+    // read once however many tasks are archived (the unary + keeps the planner
+    // off the collection index, which would sort every done task per batch).
+    // The same ids feed the copy and the delete, which share a transaction, so
+    // a task is always in exactly one of the two tables; the delete fires the
+    // usual triggers, which take it out of the stats and the search index.
+    // Returns the batch, with a count of 0 once nothing is left, or null on error.
+    public Archived archiveDone(Integer collectionId, long changedBefore, int afterId, int batchSize) {
+        String batch = "SELECT id FROM tasks WHERE id > ? AND status = 'done'"
+                + " AND COALESCE(updated_at, created_at) < ?"
+                + (collectionId != null ? " AND +collection_id = ?" : "")
+                + " ORDER BY id LIMIT ?";
+        String copy = "INSERT INTO archived_tasks"
+                + " (id, name, status, due_date, created_at, updated_at, collection_id, archived_at)"
+                + " SELECT id, name, status, due_date, created_at, updated_at, collection_id, ?"
+                + " FROM tasks WHERE id IN (SELECT value FROM json_each(?))";
+        String delete = "DELETE FROM tasks WHERE id IN (SELECT value FROM json_each(?))";
+
+        try {
+            long now = System.currentTimeMillis();
+            return database.inTransaction(() -> {
+                PreparedStatement pstmt = database.prepare(batch);
+                pstmt.setInt(1, afterId);
+                pstmt.setInt(bindArchive(pstmt, 2, collectionId, changedBefore), batchSize);
+                List<Integer> ids = new ArrayList<>(batchSize);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getInt("id"));
+                    }
+                }
+                if (ids.isEmpty()) {
+                    return new Archived(0, afterId);
+                }
+
+                String idArray = idArray(ids);
+                pstmt = database.prepare(copy);
+                pstmt.setLong(1, now);
+                pstmt.setString(2, idArray);
+                pstmt.executeUpdate();
+
+                pstmt = database.prepare(delete);
+                pstmt.setString(1, idArray);
+                pstmt.executeUpdate();
+
+                return new Archived(ids.size(), ids.get(ids.size() - 1));
+            });
+
+        } catch (SQLException e) {
+            System.err.println("Error archiving tasks: " + e.getMessage());
+            return null;
+        }
+    }
+
     public void deleteTasksByStatus(String status) {
-        List<Task> tasks = getTasksByStatus(status);
+        String sql = "DELETE FROM tasks WHERE collection_id = ? AND status = ?";
+
+        try {
+            PreparedStatement pstmt = database.prepare(sql);
+            pstmt.setInt(1, Context.getActiveCollection().getId());
+            pstmt.setString(2, status.trim().toLowerCase());
+
+            pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting tasks by status: " + e.getMessage());
+        }
+    }
+
+    // Helper methods
+
+    // The table tasks are read from: live tasks only, or live and archived
+    // tasks with the same columns so one query and one mapper serve both
+    private static String source(boolean includeArchived) {
+        if (!includeArchived) {
+            return "tasks";
+        }
+        return "(SELECT id, name, status, due_date, created_at, updated_at, collection_id, NULL AS archived_at"
+                + " FROM tasks UNION ALL SELECT id, name, status, due_date, created_at, updated_at, collection_id,"
+                + " archived_at FROM archived_tasks)";
+    }
+
+    private static String pageSql(String status, PageCursor after, boolean includeArchived) {
+        return "SELECT * FROM " + source(includeArchived) + " WHERE collection_id = ?"
+                + (status != null ? " AND status = ?" : "")
+                + (after != null ? " AND (created_at, id) < (?, ?)" : "")
+                + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    }
+
+    private static void bindPage(PreparedStatement pstmt, int collectionId, String status, PageCursor after,
+            int limit) throws SQLException {
+        int index = 1;
+        pstmt.setInt(index++, collectionId);
+        if (status != null) {
+            pstmt.setString(index++, status);
+        }
+        if (after != null) {
+            pstmt.setLong(index++, after.createdAt());
+            pstmt.setInt(index++, after.id());
+        }
+        pstmt.setInt(index, limit);
+    }
 
+    private List<Task> selectMatches(TaskSelection selection, int collectionId) throws SQLException {
+        String sql = "SELECT * FROM tasks WHERE " + selection.condition();
+        List<Task> matched = new ArrayList<>();
+
+        PreparedStatement pstmt = database.prepare(sql);
+        selection.bind(pstmt, 1, collectionId);
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                matched.add(mapResultSetToTask(rs));
+            }
+        }
+        return matched;
+    }
+
+    // One UPDATE for the given tasks that are not already in status, stamping
+    // updated_at. Ids travel as one JSON array parameter, so any number of
+    // them shares a single cached statement.
+    private void moveByIds(List<Task> tasks, String status) throws SQLException {
+        String sql = "UPDATE tasks SET status = ?, updated_at = ?"
+                + " WHERE status <> ? AND id IN (SELECT value FROM json_each(?))";
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(tasks.size());
         for (Task task : tasks) {
-            deleteTask(task.getId());
+            ids.add(task.getId());
+        }
+
+        PreparedStatement pstmt = database.prepare(sql);
+        pstmt.setString(1, status);
+        pstmt.setLong(2, System.currentTimeMillis());
+        pstmt.setString(3, status);
+        pstmt.setString(4, idArray(ids));
+        pstmt.executeUpdate();
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Task task) throws SQLException {
+        pstmt.setString(1, task.getName());
+        pstmt.setString(2, task.getStatus());
+        pstmt.setObject(3, task.getDueDateMillis());
+        pstmt.setLong(4, task.getCreatedAtMillis());
+        pstmt.setObject(5, task.getUpdatedAtMillis());
+        pstmt.setInt(6, task.getCollectionId());
+    }
+
+    static String idArray(List<Integer> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * 7 + 2).append('[');
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(ids.get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    static String stringArray(List<String> values) {
+        StringBuilder sb = new StringBuilder(values.size() * 16 + 2).append('[');
+        for (String value : values) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            JsonLinesReader.appendQuoted(sb, value);
+        }
+        return sb.append(']').toString();
+    }
+
+    // Bind the archive WHERE clause from index on, returning the next free index
+    private static int bindArchive(PreparedStatement pstmt, int index, Integer collectionId, long changedBefore)
+            throws SQLException {
+        pstmt.setLong(index++, changedBefore);
+        if (collectionId != null) {
+            pstmt.setInt(index++, collectionId);
         }
+        return index;
     }
 
-    // Map ResultSet to Task object
-    private Task mapResultSetToTask(ResultSet rs) throws SQLException {
+    // Map ResultSet to Task object. Package-private for the mapping benchmark.
+    Task mapResultSetToTask(ResultSet rs) throws SQLException {
         Task task = new Task(rs.getString("name"));
 
         task.setId(rs.getInt("id"));
         task.setStatus(rs.getString("status"));
         task.setCollectionId(rs.getInt("collection_id"));
-        task.setCreatedAt(LocalDateTime.parse(rs.getString("created_at"), DATETIME));
+        task.setCreatedAtMillis(rs.getLong("created_at"));
 
-        // Parse dates
-        if (rs.getString("due_date") != null) {
-            task.setDueDate(LocalDateTime.parse(rs.getString("due_date"), DATETIME));
+        // Dates stay as epoch millis, they are only formatted for display
+        long dueDate = rs.getLong("due_date");
+        if (!rs.wasNull()) {
+            task.setDueDateMillis(dueDate);
         }
 
-        if (rs.getString("updated_at") != null) {
-            task.setUpdatedAt(LocalDateTime.parse(rs.getString("updated_at"), DATETIME));
+        long updatedAt = rs.getLong("updated_at");
+        if (!rs.wasNull()) {
+            task.setUpdatedAtMillis(updatedAt);
         }
 
         return task;
@@ -0,0 +1,85 @@
+package com.example.kanban_cli.db;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// The tasks a multi-task command acts on: ids from any collection, plus exact
+// names, globs (* and ?) and regular expressions matched in one collection.
+// A task is selected when any of them matches. Every name match ignores case.
+public record TaskSelection(List<Integer> ids, List<String> names, List<String> globs, List<String> regexes) {
+
+    // True when part of the selection is matched by name and needs a collection
+    public boolean byName() {
+        return !names.isEmpty() || !globs.isEmpty() || !regexes.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return ids.isEmpty() && !byName();
+    }
+
+    // The WHERE condition for the selection, with parameters bound by bind.
+    // Each kind of match takes its values as one JSON array, so the text
+    // depends only on which kinds are given, never on how many values: at
+    // most sixteen statements in the cache however selections vary.
+    String condition() {
+        List<String> parts = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            parts.add("id IN (SELECT value FROM json_each(?))");
+        }
+
+        List<String> byName = new ArrayList<>();
+        if (!names.isEmpty()) {
+            byName.add("name IN (SELECT value FROM json_each(?))");
+        }
+        if (!globs.isEmpty()) {
+            byName.add("EXISTS (SELECT 1 FROM json_each(?) WHERE name LIKE value ESCAPE '\\')");
+        }
+        if (!regexes.isEmpty()) {
+            byName.add("EXISTS (SELECT 1 FROM json_each(?) WHERE name REGEXP value)");
+        }
+        if (!byName.isEmpty()) {
+            parts.add("(collection_id = ? AND (" + String.join(" OR ", byName) + "))");
+        }
+
+        return "(" + String.join(" OR ", parts) + ")";
+    }
+
+    // Bind the condition's parameters from index on, returning the next free index
+    int bind(PreparedStatement pstmt, int index, int collectionId) throws SQLException {
+        if (!ids.isEmpty()) {
+            pstmt.setString(index++, TaskDAO.idArray(ids));
+        }
+        if (byName()) {
+            pstmt.setInt(index++, collectionId);
+            if (!names.isEmpty()) {
+                pstmt.setString(index++, TaskDAO.stringArray(names.stream().map(String::trim).toList()));
+            }
+            if (!globs.isEmpty()) {
+                pstmt.setString(index++, TaskDAO.stringArray(globs.stream().map(glob -> toLike(glob.trim())).toList()));
+            }
+            if (!regexes.isEmpty()) {
+                pstmt.setString(index++, TaskDAO.stringArray(regexes));
+            }
+        }
+        return index;
+    }
+
+    // Helper methods
+
+    // LIKE already ignores case for ASCII, unlike GLOB, so globs are rewritten to it
+    static String toLike(String glob) {
+        StringBuilder sb = new StringBuilder(glob.length() + 8);
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            switch (c) {
+                case '*' -> sb.append('%');
+                case '?' -> sb.append('_');
+                case '%', '_', '\\' -> sb.append('\\').append(c);
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.kanban_cli.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 4180 CSV: the first record is the header, fields may be quoted, quoted
+// fields may contain commas, doubled quotes and line breaks.
+public class CsvReader implements RecordReader {
+
+    private final BufferedReader reader;
+    private List<String> header;
+    private long lineNumber;
+    private long recordLine;
+
+    public CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        if (header == null) {
+            header = readFields();
+            if (header == null) {
+                return null;
+            }
+            header.replaceAll(h -> h.trim().toLowerCase(Locale.ROOT));
+        }
+
+        List<String> fields;
+        do {
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        if (fields.size() > header.size()) {
+            throw new IllegalArgumentException(fields.size() + " fields but the header has " + header.size());
+        }
+
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            record.put(header.get(i), fields.get(i));
+        }
+        return record;
+    }
+
+    @Override
+    public long line() {
+        return recordLine;
+    }
+
+    // Fields of the next record, or null at end of input
+    private List<String> readFields() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        recordLine = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Quoted field spans a line break
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Line " + recordLine + ": unterminated quoted field");
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Quote a value for CSV output when it needs it
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
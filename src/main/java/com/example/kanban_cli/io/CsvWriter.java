@@ -0,0 +1,53 @@
+package com.example.kanban_cli.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+// RFC 4180 output with a header row, in the same columns 'import' reads
+public class CsvWriter implements RecordWriter {
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        writer.write("collection,id,name,status,due_date,created_at,updated_at,archived_at\r\n");
+    }
+
+    @Override
+    public void collection(Collection collection) {
+        // Tasks carry their collection name, there is no separate record
+    }
+
+    @Override
+    public void task(Collection collection, Task task) throws IOException {
+        line.setLength(0);
+        line.append(CsvReader.escape(collection.getName())).append(',');
+        line.append(task.getId()).append(',');
+        line.append(CsvReader.escape(task.getName())).append(',');
+        line.append(task.getStatus()).append(',');
+        appendNullable(task.getDueDateMillis());
+        line.append(task.getCreatedAtMillis()).append(',');
+        appendNullable(task.getUpdatedAtMillis());
+        if (task.getArchivedAtMillis() != null) {
+            line.append(task.getArchivedAtMillis());
+        }
+        line.append("\r\n");
+
+        writer.append(line);
+    }
+
+    private void appendNullable(Long value) {
+        if (value != null) {
+            line.append(value);
+        }
+        line.append(',');
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.kanban_cli.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+// One task per line, timestamps as epoch millis. The output can be read back
+// with 'import', which ignores the extra fields.
+public class JsonLinesWriter implements RecordWriter {
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    public JsonLinesWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void collection(Collection collection) {
+        // Tasks carry their collection name, there is no separate record
+    }
+
+    @Override
+    public void task(Collection collection, Task task) throws IOException {
+        line.setLength(0);
+        line.append("{\"collection\":");
+        JsonLinesReader.appendQuoted(line, collection.getName());
+        line.append(",\"id\":").append(task.getId());
+        line.append(",\"name\":");
+        JsonLinesReader.appendQuoted(line, task.getName());
+        line.append(",\"status\":");
+        JsonLinesReader.appendQuoted(line, task.getStatus());
+        line.append(",\"due_date\":").append(task.getDueDateMillis());
+        line.append(",\"created_at\":").append(task.getCreatedAtMillis());
+        line.append(",\"updated_at\":").append(task.getUpdatedAtMillis());
+        line.append(",\"archived_at\":").append(task.getArchivedAtMillis());
+        line.append("}\n");
+
+        writer.append(line);
+    }
+}
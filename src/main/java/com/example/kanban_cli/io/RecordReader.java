@@ -0,0 +1,16 @@
+package com.example.kanban_cli.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+// Streams flat records (field name -> text value) from an input one at a time
+public interface RecordReader extends Closeable {
+
+    // Next record, or null at end of input. A malformed record is consumed and
+    // reported with IllegalArgumentException so callers can skip it and go on.
+    Map<String, String> next() throws IOException;
+
+    // Line number where the last returned record started, for error messages
+    long line();
+}
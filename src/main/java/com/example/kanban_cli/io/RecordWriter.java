@@ -0,0 +1,21 @@
+package com.example.kanban_cli.io;
+
+import java.io.IOException;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+// Writes collections and their tasks to an output one record at a time
+public interface RecordWriter {
+
+    default void begin() throws IOException {
+    }
+
+    // Called once per collection, before any of its tasks
+    void collection(Collection collection) throws IOException;
+
+    void task(Collection collection, Task task) throws IOException;
+
+    default void end() throws IOException {
+    }
+}
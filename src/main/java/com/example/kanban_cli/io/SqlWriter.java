@@ -0,0 +1,70 @@
+package com.example.kanban_cli.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+// A SQLite script that recreates the exported rows in another database.
+// Collections are matched by name so existing ones are reused, and ids are
+// left to the target database. An archived task is inserted as a task, for
+// an id from the tasks sequence, then moved to archived_tasks as 'archive'
+// would move it: last_insert_rowid() is that id in both statements.
+public class SqlWriter implements RecordWriter {
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    public SqlWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        writer.write("BEGIN TRANSACTION;\n");
+    }
+
+    @Override
+    public void collection(Collection collection) throws IOException {
+        line.setLength(0);
+        line.append("INSERT OR IGNORE INTO collections (name, created_at, updated_at) VALUES (");
+        appendString(collection.getName()).append(", ");
+        line.append(collection.getCreatedAtMillis()).append(", ");
+        line.append(collection.getUpdatedAtMillis()).append(");\n");
+
+        writer.append(line);
+    }
+
+    @Override
+    public void task(Collection collection, Task task) throws IOException {
+        line.setLength(0);
+        line.append("INSERT INTO tasks (name, status, due_date, created_at, updated_at, collection_id) VALUES (");
+        appendString(task.getName()).append(", ");
+        appendString(task.getStatus()).append(", ");
+        line.append(task.getDueDateMillis()).append(", ");
+        line.append(task.getCreatedAtMillis()).append(", ");
+        line.append(task.getUpdatedAtMillis()).append(", ");
+        line.append("(SELECT id FROM collections WHERE name = ");
+        appendString(collection.getName()).append("));\n");
+
+        if (task.getArchivedAtMillis() != null) {
+            line.append("INSERT INTO archived_tasks");
+            line.append(" (id, name, status, due_date, created_at, updated_at, collection_id, archived_at)");
+            line.append(" SELECT id, name, status, due_date, created_at, updated_at, collection_id, ");
+            line.append(task.getArchivedAtMillis()).append(" FROM tasks WHERE id = last_insert_rowid();\n");
+            line.append("DELETE FROM tasks WHERE id = last_insert_rowid();\n");
+        }
+
+        writer.append(line);
+    }
+
+    @Override
+    public void end() throws IOException {
+        writer.write("COMMIT;\n");
+    }
+
+    private StringBuilder appendString(String value) {
+        return line.append('\'').append(value.replace("'", "''")).append('\'');
+    }
+}
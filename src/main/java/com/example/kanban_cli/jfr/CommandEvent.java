@@ -0,0 +1,25 @@
+package com.example.kanban_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kanban.Command")
+@Label("Command")
+@Category({"KanbanCLI", "Command"})
+@Description("One command line run by picocli, from dispatch until it returns")
+@StackTrace(false)
+public final class CommandEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Arguments")
+    public String arguments;
+
+    @Label("Exit Code")
+    public int exitCode;
+}
@@ -0,0 +1,22 @@
+package com.example.kanban_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("kanban.Commit")
+@Label("Transaction Commit")
+@Category({"KanbanCLI", "Database"})
+@Description("Commit of an outermost Database.inTransaction unit")
+@StackTrace(false)
+public final class CommitEvent extends Event {
+
+    @Label("Transaction Duration")
+    @Description("Time from the start of the transaction to the commit call")
+    @Timespan(Timespan.NANOSECONDS)
+    public long transactionNanos;
+}
@@ -0,0 +1,27 @@
+package com.example.kanban_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kanban.Dao")
+@Label("DAO Call")
+@Category({"KanbanCLI", "Database"})
+@Description("One statement run by a DAO method, from execute until its rows are read or its update returns")
+@StackTrace(false)
+public final class DaoEvent extends Event {
+
+    @Label("Method")
+    @Description("DAO class and method, for example TaskDAO.getTaskByName")
+    public String method;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Rows")
+    @Description("Rows read for a query, rows changed for an update")
+    public long rows;
+}
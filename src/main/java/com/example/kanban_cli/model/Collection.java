@@ -10,13 +10,19 @@ public class Collection {
     private int id;
     private String name;
     private int tasks;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    // Per-status counts, only filled in when the collection was loaded with counts
+    private int todoCount;
+    private int inProgressCount;
+    private int doneCount;
+    private int overdueCount;
+    // Epoch milliseconds, converted to LocalDateTime only for input and display
+    private long createdAt;
+    private Long updatedAt;
     private boolean isActive;
 
     public Collection(String name) {
         this.name = name;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = System.currentTimeMillis();
     }
 
     // Getters and Setters with validations
@@ -49,27 +55,92 @@ public class Collection {
         this.tasks = tasks;
     }
 
+    public int getTodoCount() {
+        return todoCount;
+    }
+
+    public void setTodoCount(int todoCount) {
+        if (todoCount < 0) throw new IllegalArgumentException("Todo count cannot be negative");
+        this.todoCount = todoCount;
+    }
+
+    public int getInProgressCount() {
+        return inProgressCount;
+    }
+
+    public void setInProgressCount(int inProgressCount) {
+        if (inProgressCount < 0) throw new IllegalArgumentException("In progress count cannot be negative");
+        this.inProgressCount = inProgressCount;
+    }
+
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    public void setDoneCount(int doneCount) {
+        if (doneCount < 0) throw new IllegalArgumentException("Done count cannot be negative");
+        this.doneCount = doneCount;
+    }
+
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    public void setOverdueCount(int overdueCount) {
+        if (overdueCount < 0) throw new IllegalArgumentException("Overdue count cannot be negative");
+        this.overdueCount = overdueCount;
+    }
+
+    // One-line summary of the per-status counts
+    public String getCountSummary() {
+        return appendCountSummary(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendCountSummary(StringBuilder sb) {
+        sb.append("todo ").append(todoCount)
+                .append(", in_progress ").append(inProgressCount)
+                .append(", done ").append(doneCount);
+        if (overdueCount > 0) {
+            sb.append(", overdue ").append(overdueCount);
+        }
+        return sb;
+    }
+
     public LocalDateTime getCreatedAt() {
-        if (createdAt == null) createdAt = LocalDateTime.now();
-        return createdAt;
+        return Timestamps.toLocalDateTime(createdAt);
     }
 
     public void setCreatedAt(LocalDateTime createdAt) {
+        setCreatedAtMillis(Timestamps.toMillis(createdAt));
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAt;
+    }
+
+    public void setCreatedAtMillis(long createdAt) {
         this.createdAt = createdAt;
     }
 
-    
     public LocalDateTime getUpdatedAt() {
-        return updatedAt;
+        return updatedAt != null ? Timestamps.toLocalDateTime(updatedAt) : null;
     }
-    
+
     public void setUpdatedAt(LocalDateTime updatedAt) {
-        if (updatedAt != null && this.createdAt != null && updatedAt.isBefore(this.createdAt)) {
+        setUpdatedAtMillis(updatedAt != null ? Timestamps.toMillis(updatedAt) : null);
+    }
+
+    public Long getUpdatedAtMillis() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAtMillis(Long updatedAt) {
+        if (updatedAt != null && updatedAt < this.createdAt) {
             throw new IllegalArgumentException("Updated at cannot be before created at");
         }
         this.updatedAt = updatedAt;
     }
-    
+
     public boolean getIsActive() {
         return this.isActive;
     }
@@ -81,8 +152,11 @@ public class Collection {
     // Override toString for better display in CLI
     @Override
     public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
 
-        StringBuilder sb = new StringBuilder();
+    // Append the tree layout used by toString without building intermediate strings
+    public StringBuilder appendTo(StringBuilder sb) {
 
         sb.append("\n[Collection: \"").append(name).append("\"]");
 
@@ -92,14 +166,19 @@ public class Collection {
 
         
         if (updatedAt != null) {
-            sb.append("\n ├─ Updated at: ").append(updatedAt.format(DATETIME));
+            sb.append("\n ├─ Updated at: ");
+            DATETIME.formatTo(Timestamps.toLocalDateTime(updatedAt), sb);
         }
         
-        sb.append("\n ├─ Created at: ").append(createdAt.format(DATETIME));
+        sb.append("\n ├─ Created at: ");
+        DATETIME.formatTo(Timestamps.toLocalDateTime(createdAt), sb);
 
         sb.append("\n └─ Tasks: ").append(tasks);
+        if (tasks > 0) {
+            appendCountSummary(sb.append(" (")).append(")");
+        }
 
-        return sb.toString();
+        return sb;
     }
 
 }
@@ -11,15 +11,18 @@ public class Task {
     private int id;
     private String name;
     private String status;
-    private LocalDateTime dueDate;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    // Epoch milliseconds, converted to LocalDateTime only for input and display
+    private Long dueDate;
+    private long createdAt;
+    private Long updatedAt;
+    // Set only on a task read from or bound for the archive
+    private Long archivedAt;
     private int collectionId;
 
     public Task(String name) {
         this.name = name;
         this.status = "todo";
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = System.currentTimeMillis();
     }
 
     // Getters and Setters with validation
@@ -61,38 +64,70 @@ public class Task {
     }
 
     public LocalDateTime getDueDate() {
-        return dueDate;
+        return dueDate != null ? Timestamps.toLocalDateTime(dueDate) : null;
     }
 
     public void setDueDate(LocalDateTime dueDate) {
-        if (dueDate != null && this.createdAt != null && dueDate.isBefore(this.createdAt)) {
+        setDueDateMillis(dueDate != null ? Timestamps.toMillis(dueDate) : null);
+    }
+
+    public Long getDueDateMillis() {
+        return dueDate;
+    }
+
+    public void setDueDateMillis(Long dueDate) {
+        if (dueDate != null && dueDate < this.createdAt) {
             throw new IllegalArgumentException("Due date cannot be before created at");
         }
         this.dueDate = dueDate;
     }
 
     public LocalDateTime getCreatedAt() {
-        if (createdAt == null) {
-            createdAt = LocalDateTime.now();
-        }
-        return createdAt;
+        return Timestamps.toLocalDateTime(createdAt);
     }
 
     public void setCreatedAt(LocalDateTime createdAt) {
+        setCreatedAtMillis(Timestamps.toMillis(createdAt));
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAt;
+    }
+
+    public void setCreatedAtMillis(long createdAt) {
         this.createdAt = createdAt;
     }
 
     public LocalDateTime getUpdatedAt() {
-        return updatedAt;
+        return updatedAt != null ? Timestamps.toLocalDateTime(updatedAt) : null;
     }
 
     public void setUpdatedAt(LocalDateTime updatedAt) {
-        if (updatedAt != null && this.createdAt != null && updatedAt.isBefore(this.createdAt)) {
+        setUpdatedAtMillis(updatedAt != null ? Timestamps.toMillis(updatedAt) : null);
+    }
+
+    public Long getUpdatedAtMillis() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAtMillis(Long updatedAt) {
+        if (updatedAt != null && updatedAt < this.createdAt) {
             throw new IllegalArgumentException("Updated at cannot be before created at");
         }
         this.updatedAt = updatedAt;
     }
 
+    public Long getArchivedAtMillis() {
+        return archivedAt;
+    }
+
+    public void setArchivedAtMillis(Long archivedAt) {
+        if (archivedAt != null && archivedAt < this.createdAt) {
+            throw new IllegalArgumentException("Archived at cannot be before created at");
+        }
+        this.archivedAt = archivedAt;
+    }
+
     public int getCollectionId() {
         return collectionId;
     }
@@ -106,36 +141,55 @@ public class Task {
 
     public boolean isOverdue() {
         return dueDate != null
-                && LocalDateTime.now().isAfter(dueDate)
+                && System.currentTimeMillis() > dueDate
                 && !"done".equalsIgnoreCase(status);
     }
 
     // Override toString for better display in CLI
     @Override
     public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
 
-        StringBuilder sb = new StringBuilder();
+    // Append the tree layout used by toString without building intermediate strings
+    public StringBuilder appendTo(StringBuilder sb) {
 
-        sb.append("\n[Task: \"").append(name).append("\"]")
-                .append("\n ├─ Status: ").append(status.toUpperCase());
+        // The id is shown once the task is saved, for use as #<id>
+        sb.append("\n[Task");
+        if (id > 0) {
+            sb.append(" #").append(id);
+        }
+        sb.append(": \"").append(name).append("\"]")
+                .append("\n ├─ Status: ");
+        appendUpperCase(sb, status);
 
         if (dueDate != null) {
-            sb.append("\n ├─ Due Date:   ").append(dueDate.format(DATE));
+            sb.append("\n ├─ Due Date:   ");
+            DATE.formatTo(Timestamps.toLocalDateTime(dueDate), sb);
             if (isOverdue()) {
                 sb.append(" (EXPIRED)");
             }
         }
     
         if (updatedAt != null) {
-            sb.append("\n ├─ Updated at: ").append(updatedAt.format(DATETIME));
+            sb.append("\n ├─ Updated at: ");
+            DATETIME.formatTo(Timestamps.toLocalDateTime(updatedAt), sb);
         }
 
 
-        sb.append("\n └─ Created at: ").append(createdAt.format(DATETIME));
+        sb.append("\n └─ Created at: ");
+        DATETIME.formatTo(Timestamps.toLocalDateTime(createdAt), sb);
 
         sb.append("\n");
 
-        return sb.toString();
+        return sb;
+    }
+
+    // Statuses are plain ASCII, so this skips the String that toUpperCase allocates
+    private static void appendUpperCase(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            sb.append(Character.toUpperCase(value.charAt(i)));
+        }
     }
 
 }
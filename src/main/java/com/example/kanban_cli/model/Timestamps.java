@@ -0,0 +1,46 @@
+package com.example.kanban_cli.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+// Timestamps are stored and compared as epoch milliseconds. These helpers are
+// the only place they meet LocalDateTime, at the input and display boundary.
+public final class Timestamps {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private Timestamps() {
+    }
+
+    public static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    // Parse a timestamp given on the command line or in imported data:
+    // epoch milliseconds, dd/MM/yyyy HH:mm, or dd/MM/yyyy (start of day)
+    public static long parse(String text) {
+        String value = text.trim();
+        try {
+            if (value.matches("\\d+")) {
+                return Long.parseLong(value);
+            }
+            if (value.length() > 10) {
+                return toMillis(LocalDateTime.parse(value, DATETIME));
+            }
+            return toMillis(LocalDate.parse(value, DATE).atStartOfDay());
+
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Invalid date '" + value + "'. Use dd/MM/yyyy, dd/MM/yyyy HH:mm or epoch milliseconds.");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.kanban_cli.render;
+
+import java.time.format.DateTimeFormatter;
+
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
+
+// Statuses side by side as fixed-width columns, one task per cell. Every row
+// is formatted from the tasks at that position and written at once, so a board
+// streams like a list: nothing is measured or held beyond the current row.
+// Text wider than its cell is cut and ends in "...".
+public final class BoardLayout {
+
+    private static final String GAP = " | ";
+    private static final String CUT = "...";
+    private static final int MIN_CELL = 12;
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("dd/MM");
+
+    private final Renderer out;
+    private final int columns;
+    private final int cellWidth;
+    private final StringBuilder line = new StringBuilder(256);
+    private final StringBuilder cell = new StringBuilder(64);
+
+    public BoardLayout(Renderer out, int columns, int width) {
+        this.out = out;
+        this.columns = columns;
+        this.cellWidth = Math.max(MIN_CELL, (width - GAP.length() * (columns - 1)) / columns);
+    }
+
+    // Column titles over a rule
+    public void header(String... titles) {
+        for (int i = 0; i < columns; i++) {
+            appendCell(titles[i], i);
+        }
+        flushLine();
+
+        for (int i = 0; i < columns; i++) {
+            repeat('-', cellWidth);
+            if (i < columns - 1) {
+                line.append("-+-");
+            }
+        }
+        flushLine();
+    }
+
+    // One task per column, a null leaves its cell blank: "#12 Fix login (03/02)",
+    // with a '!' after the due date once it has passed
+    public void row(Task... tasks) {
+        for (int i = 0; i < columns; i++) {
+            cell.setLength(0);
+            Task task = tasks[i];
+            if (task != null) {
+                cell.append('#').append(task.getId()).append(' ').append(task.getName());
+                if (task.getDueDateMillis() != null) {
+                    cell.append(" (");
+                    DAY.formatTo(Timestamps.toLocalDateTime(task.getDueDateMillis()), cell);
+                    cell.append(task.isOverdue() ? "!)" : ")");
+                }
+            }
+            appendCell(cell, i);
+        }
+        flushLine();
+    }
+
+    // Free text per column under the last row, such as a note that more follows
+    public void footer(String... notes) {
+        for (int i = 0; i < columns; i++) {
+            appendCell(notes[i] != null ? notes[i] : "", i);
+        }
+        flushLine();
+    }
+
+    // Helper methods
+
+    // Cut or pad the text to the cell width. The last column is not padded,
+    // so lines carry no trailing spaces.
+    private void appendCell(CharSequence text, int column) {
+        boolean last = column == columns - 1;
+        if (text.length() > cellWidth) {
+            line.append(text, 0, cellWidth - CUT.length()).append(CUT);
+        } else {
+            line.append(text);
+            if (!last) {
+                repeat(' ', cellWidth - text.length());
+            }
+        }
+        if (!last) {
+            line.append(GAP);
+        }
+    }
+
+    private void repeat(char c, int count) {
+        for (int i = 0; i < count; i++) {
+            line.append(c);
+        }
+    }
+
+    private void flushLine() {
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) == ' ') {
+            end--;
+        }
+        line.setLength(end);
+        out.line(line);
+        line.setLength(0);
+    }
+}
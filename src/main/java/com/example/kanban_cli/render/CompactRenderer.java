@@ -0,0 +1,42 @@
+package com.example.kanban_cli.render;
+
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
+
+// One line per record, for scanning long lists or piping into grep
+class CompactRenderer extends Renderer {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    CompactRenderer(Writer out) {
+        super(out, Format.COMPACT);
+    }
+
+    @Override
+    public void task(Task task) {
+        sb.append('#').append(task.getId()).append(' ').append(task.getName()).append(" [").append(task.getStatus()).append(']');
+        if (task.getDueDateMillis() != null) {
+            sb.append(" due ");
+            DATE.formatTo(Timestamps.toLocalDateTime(task.getDueDateMillis()), sb);
+            if (task.isOverdue()) {
+                sb.append(" (EXPIRED)");
+            }
+        }
+        sb.append('\n');
+        emit();
+    }
+
+    @Override
+    public void collection(Collection collection) {
+        sb.append(collection.getName());
+        if (collection.getIsActive()) {
+            sb.append(" (active)");
+        }
+        collection.appendCountSummary(sb.append(": ")).append('\n');
+        emit();
+    }
+}
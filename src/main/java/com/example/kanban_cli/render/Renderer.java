@@ -0,0 +1,134 @@
+package com.example.kanban_cli.render;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+// Formats tasks and collections into one reusable StringBuilder and writes
+// them through a large buffer, so printing a big board costs a few writes to
+// stdout instead of one per line. Nothing reaches stdout before flush or close.
+public abstract class Renderer implements Closeable {
+
+    private static final int BUFFER = 1 << 16;
+
+    protected final StringBuilder sb = new StringBuilder(512);
+    private final Writer out;
+    private final Format format;
+    private char[] chars = new char[512];
+
+    protected Renderer(Writer out, Format format) {
+        this.out = out;
+        this.format = format;
+    }
+
+    public static Renderer stdout(Format format) {
+        return to(new BufferedWriter(new PrintStreamWriter(System.out), BUFFER), format);
+    }
+
+    // A renderer over any writer, for output that is formatted once and printed later
+    public static Renderer to(Writer writer, Format format) {
+        return switch (format) {
+            case TABLE -> new TableRenderer(writer);
+            case COMPACT -> new CompactRenderer(writer);
+            default -> new TreeRenderer(writer);
+        };
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    // A group heading such as a status column; table output repeats its header after one
+    public void section(String title) {
+        sb.append("-- ").append(title).append(":\n");
+        emit();
+    }
+
+    public void line(CharSequence text) {
+        sb.append(text).append('\n');
+        emit();
+    }
+
+    public void blank() {
+        sb.append('\n');
+        emit();
+    }
+
+    // Output formatted earlier, written as it is
+    public void text(CharSequence text) {
+        sb.append(text);
+        emit();
+    }
+
+    public abstract void task(Task task);
+
+    public abstract void collection(Collection collection);
+
+    // Move what the formatter appended into the buffered writer and reuse the builder
+    protected final void emit() {
+        int length = sb.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        sb.getChars(0, length, chars, 0);
+        sb.setLength(0);
+
+        try {
+            out.write(chars, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Flushes without closing stdout
+    @Override
+    public void close() {
+        flush();
+    }
+
+    public enum Format {
+        TREE,
+        TABLE,
+        COMPACT
+    }
+
+    // Hands whole buffers to the PrintStream so output keeps its charset,
+    // including the daemon's framed stdout
+    private static final class PrintStreamWriter extends Writer {
+
+        private final PrintStream stream;
+
+        PrintStreamWriter(PrintStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            stream.print(String.valueOf(cbuf, off, len));
+        }
+
+        @Override
+        public void flush() {
+            stream.flush();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
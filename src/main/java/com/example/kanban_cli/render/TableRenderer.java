@@ -0,0 +1,121 @@
+package com.example.kanban_cli.render;
+
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
+
+// Fixed-width columns so rows can be written as they stream in, without
+// measuring the whole result first. Long names push their row wider.
+class TableRenderer extends Renderer {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private static final String TASK_HEADER =
+            "ID      NAME                             STATUS       DUE          CREATED           UPDATED\n";
+    private static final String COLLECTION_HEADER =
+            "NAME                             TOTAL    TODO     IN_PROG  DONE     OVERDUE\n";
+
+    private boolean taskHeader;
+    private boolean collectionHeader;
+
+    TableRenderer(Writer out) {
+        super(out, Format.TABLE);
+    }
+
+    @Override
+    public void section(String title) {
+        super.section(title);
+        taskHeader = false;
+        collectionHeader = false;
+    }
+
+    @Override
+    public void task(Task task) {
+        if (!taskHeader) {
+            sb.append(TASK_HEADER);
+            taskHeader = true;
+        }
+
+        int start = sb.length();
+        sb.append(task.getId());
+        padTo(start, 8);
+
+        start = sb.length();
+        sb.append(task.getName());
+        padTo(start, 33);
+
+        start = sb.length();
+        sb.append(task.getStatus());
+        padTo(start, 13);
+
+        start = sb.length();
+        if (task.getDueDateMillis() != null) {
+            DATE.formatTo(Timestamps.toLocalDateTime(task.getDueDateMillis()), sb);
+            if (task.isOverdue()) {
+                sb.append('!');
+            }
+        } else {
+            sb.append('-');
+        }
+        padTo(start, 13);
+
+        start = sb.length();
+        DATETIME.formatTo(Timestamps.toLocalDateTime(task.getCreatedAtMillis()), sb);
+        padTo(start, 18);
+
+        if (task.getUpdatedAtMillis() != null) {
+            DATETIME.formatTo(Timestamps.toLocalDateTime(task.getUpdatedAtMillis()), sb);
+        } else {
+            sb.append('-');
+        }
+        sb.append('\n');
+        emit();
+    }
+
+    @Override
+    public void collection(Collection collection) {
+        if (!collectionHeader) {
+            sb.append(COLLECTION_HEADER);
+            collectionHeader = true;
+        }
+
+        int start = sb.length();
+        sb.append(collection.getName());
+        if (collection.getIsActive()) {
+            sb.append(" *");
+        }
+        padTo(start, 33);
+
+        start = sb.length();
+        sb.append(collection.getTasks());
+        padTo(start, 9);
+
+        start = sb.length();
+        sb.append(collection.getTodoCount());
+        padTo(start, 9);
+
+        start = sb.length();
+        sb.append(collection.getInProgressCount());
+        padTo(start, 9);
+
+        start = sb.length();
+        sb.append(collection.getDoneCount());
+        padTo(start, 9);
+
+        sb.append(collection.getOverdueCount()).append('\n');
+        emit();
+    }
+
+    // Fill the cell that began at start out to width, keeping at least one
+    // space before the next column when the value is wider than the cell
+    private void padTo(int start, int width) {
+        int end = Math.max(start + width, sb.length() + 1);
+        while (sb.length() < end) {
+            sb.append(' ');
+        }
+    }
+}
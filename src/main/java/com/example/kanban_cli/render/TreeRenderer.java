@@ -0,0 +1,26 @@
+package com.example.kanban_cli.render;
+
+import java.io.Writer;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+// The multi-line layout of Task.toString and Collection.toString
+class TreeRenderer extends Renderer {
+
+    TreeRenderer(Writer out) {
+        super(out, Format.TREE);
+    }
+
+    @Override
+    public void task(Task task) {
+        task.appendTo(sb).append('\n');
+        emit();
+    }
+
+    @Override
+    public void collection(Collection collection) {
+        collection.appendTo(sb).append('\n');
+        emit();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.kanban_cli.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.kanban_cli.App;
+import com.example.kanban_cli.io.CsvReader;
+import com.example.kanban_cli.io.JsonLinesReader;
+import com.example.kanban_cli.io.RecordReader;
+
+/**
+ * Import and export through the command line, against the test database.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void rejectedRowsAreCountedOnce() throws IOException {
+        useNewCollection("rejects");
+        Path file = dir.resolve("tasks.csv");
+        Files.writeString(file, "name,status\nfirst,todo\nsecond,unknown\nthird,done\n");
+
+        String out = run("import", file.toString());
+
+        assertTrue(out.contains("Imported 2 task(s), skipped 0 duplicate(s), rejected 1 invalid row(s)."), out);
+        assertTrue(out.contains("3 row(s) read"), out);
+    }
+
+    @Test
+    public void duplicateNamesFoldAsciiOnlyLikeNocase() throws IOException {
+        useNewCollection("nocase");
+        Path file = dir.resolve("names.csv");
+        Files.writeString(file, "name\nÉcole\nécole\nABC\nabc\n");
+
+        String out = run("import", file.toString());
+
+        assertTrue(out.contains("Imported 3 task(s), skipped 1 duplicate(s)"), out);
+    }
+
+    @Test
+    public void duplicatesAreFoundAcrossBatchesAndExistingTasks() throws IOException {
+        useNewCollection("batches");
+        run("new", "task", "Existing");
+        Path file = dir.resolve("batches.csv");
+        Files.writeString(file, "name\nfirst\nEXISTING\nsecond\nFirst\nthird\nSECOND\nexisting\n");
+
+        String out = run("import", "-b", "2", file.toString());
+
+        assertTrue(out.contains("Imported 3 task(s), skipped 4 duplicate(s), rejected 0 invalid row(s)."), out);
+    }
+
+    @Test
+    public void exportedTasksImportUnchanged() throws IOException {
+        for (String format : List.of("jsonl", "csv")) {
+            useNewCollection("source-" + format);
+            Path seed = dir.resolve("seed-" + format + ".csv");
+            Files.writeString(seed, """
+                    name,status,due_date,created_at,updated_at
+                    "Write, then ship",in_progress,1767225600000,1764547200000,1765000000000
+                    Plain,todo,,1764547200000,
+                    Finished,done,,1764547200000,1765100000000
+                    """);
+            run("import", seed.toString());
+
+            Path first = dir.resolve("first." + format);
+            run("export", "-f", format, "-o", first.toString());
+
+            useNewCollection("copy-" + format);
+            run("import", first.toString());
+            Path second = dir.resolve("second." + format);
+            run("export", "-f", format, "-o", second.toString());
+
+            List<Map<String, String>> expected = read(first, format);
+            List<Map<String, String>> actual = read(second, format);
+            assertEquals(3, expected.size());
+            assertEquals("1765000000000", expected.get(0).get("updated_at"));
+            assertEquals(expected, actual, format);
+        }
+    }
+
+    @Test
+    public void archivedTasksImportBackIntoTheArchive() throws IOException {
+        useNewCollection("archive-source");
+        Path seed = dir.resolve("archive-seed.csv");
+        Files.writeString(seed, "name,status,created_at\nOld,done,1000\nOpen,todo,1000\n");
+        run("import", seed.toString());
+        run("archive", "--older-than", "1h");
+
+        Path first = dir.resolve("archived.jsonl");
+        run("export", "--include-archived", "-o", first.toString());
+
+        useNewCollection("archive-copy");
+        run("import", first.toString());
+
+        String board = run("list", "task", "--format", "compact");
+        assertTrue(board.contains("Open") && !board.contains("Old"), board);
+        String all = run("list", "task", "--format", "compact", "--include-archived");
+        assertTrue(all.contains("Old"), all);
+
+        Path second = dir.resolve("archived-again.jsonl");
+        run("export", "--include-archived", "-o", second.toString());
+        List<Map<String, String>> expected = read(first, "jsonl");
+        assertEquals(2, expected.size());
+        for (Map<String, String> record : expected) {
+            assertEquals(record.get("name").equals("Old"), record.get("archived_at") != null, record.toString());
+        }
+        assertEquals(expected, read(second, "jsonl"));
+    }
+
+    // Helper methods
+
+    private void useNewCollection(String prefix) {
+        String name = prefix + "-" + System.nanoTime();
+        run("new", "collection", name);
+        run("use", name);
+    }
+
+    // Run one command line in-process and return what it printed to stdout and stderr
+    private String run(String... args) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream capture = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        try {
+            System.setOut(capture);
+            System.setErr(capture);
+            App.execute(args);
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    // Exported records without the fields that differ between collections
+    private List<Map<String, String>> read(Path file, String format) throws IOException {
+        List<Map<String, String>> records = new ArrayList<>();
+        BufferedReader lines = Files.newBufferedReader(file);
+        try (RecordReader input = format.equals("csv") ? new CsvReader(lines) : new JsonLinesReader(lines)) {
+            for (Map<String, String> record = input.next(); record != null; record = input.next()) {
+                record.remove("collection");
+                record.remove("id");
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.kanban_cli.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Free text turned into FTS5 queries that always parse.
+ */
+public class SearchCommandTest {
+
+    @Test
+    public void wordsAndPhrasesAreQuoted() {
+        assertEquals("\"fix\" \"login\"", SearchCommand.toMatchQuery("  fix   login "));
+        assertEquals("\"login bug\" \"urgent\"", SearchCommand.toMatchQuery("\"login bug\" urgent"));
+        assertEquals("\"open phrase\"", SearchCommand.toMatchQuery("\"open phrase"));
+    }
+
+    @Test
+    public void trailingStarKeepsPrefixMeaning() {
+        assertEquals("\"log\"*", SearchCommand.toMatchQuery("log*"));
+        assertEquals("\"login b\"*", SearchCommand.toMatchQuery("\"login b*\""));
+        assertEquals("", SearchCommand.toMatchQuery("* \"\""));
+    }
+
+    @Test
+    public void queryOperatorsAndQuotesAreLiteral() {
+        assertEquals("\"NOT\" \"a\"\"b\" \"(x\" \"OR\" \"y)\" \"name:z\"",
+                SearchCommand.toMatchQuery("NOT a\"b (x OR y) name:z"));
+    }
+
+    @Test
+    public void everyQueryParsesInFts5() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE VIRTUAL TABLE names USING fts5 (name)");
+            stmt.execute("INSERT INTO names (name) VALUES ('Fix login bug'), ('NOT done (yet)'), ('a\"b')");
+
+            try (PreparedStatement match = connection.prepareStatement("SELECT COUNT(*) FROM names WHERE names MATCH ?")) {
+                assertEquals(1, count(match, "login"));
+                assertEquals(1, count(match, "log*"));
+                assertEquals(1, count(match, "NOT (yet"));
+                assertEquals(1, count(match, "a\"b"));
+                assertEquals(0, count(match, "- ^ : AND"));
+                assertEquals(0, count(match, "**"));
+            }
+        }
+    }
+
+    private int count(PreparedStatement match, String input) throws SQLException {
+        match.setString(1, SearchCommand.toMatchQuery(input));
+        try (ResultSet rs = match.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.kanban_cli.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Splitting shell input lines into command arguments.
+ */
+public class ShellCommandTest {
+
+    @Test
+    public void whitespaceSeparatesTokens() {
+        assertEquals(List.of("list", "task", "-s", "done"), ShellCommand.tokenize("  list\ttask   -s done "));
+        assertEquals(List.of(), ShellCommand.tokenize("   "));
+    }
+
+    @Test
+    public void quotesKeepSpacesAndJoinAdjacentText() {
+        assertEquals(List.of("new", "task", "Fix login bug"), ShellCommand.tokenize("new task 'Fix login bug'"));
+        assertEquals(List.of("new", "task", "Fix 'login' bug"), ShellCommand.tokenize("new task \"Fix 'login' bug\""));
+        assertEquals(List.of("pre fix"), ShellCommand.tokenize("pre' 'fix"));
+        assertEquals(List.of("", "x"), ShellCommand.tokenize("'' x"));
+    }
+
+    @Test
+    public void backslashEscapesOutsideSingleQuotes() {
+        assertEquals(List.of("a b", "c\"d", "it's"), ShellCommand.tokenize("a\\ b \"c\\\"d\" it\\'s"));
+        assertEquals(List.of("C:\\temp"), ShellCommand.tokenize("'C:\\temp'"));
+        assertEquals(List.of("end\\"), ShellCommand.tokenize("end\\"));
+    }
+
+    @Test
+    public void unterminatedQuoteIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ShellCommand.tokenize("new task 'oops"));
+        assertThrows(IllegalArgumentException.class, () -> ShellCommand.tokenize("new task \"oops\\\""));
+    }
+}
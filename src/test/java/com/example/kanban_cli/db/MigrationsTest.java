@@ -0,0 +1,257 @@
+package com.example.kanban_cli.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.kanban_cli.model.Timestamps;
+
+/**
+ * Schema migrations against fresh and pre-versioning databases.
+ */
+public class MigrationsTest {
+
+    @TempDir
+    Path dir;
+
+    private Connection open(String file) throws SQLException {
+        return DriverManager.getConnection("jdbc:sqlite:" + dir.resolve(file));
+    }
+
+    @Test
+    public void freshDatabaseReachesLatestVersion() throws SQLException {
+        try (Connection connection = open("fresh.db")) {
+            Migrations.migrate(connection);
+            assertEquals(Migrations.LATEST, Migrations.userVersion(connection));
+
+            // Running again on a current schema is a no-op
+            Migrations.migrate(connection);
+            assertEquals(Migrations.LATEST, Migrations.userVersion(connection));
+        }
+    }
+
+    @Test
+    public void legacyDatabaseIsMigratedInPlace() throws SQLException {
+        try (Connection connection = open("legacy.db")) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("""
+                    CREATE TABLE collections (
+                        id INTEGER PRIMARY KEY AUTOINCREMENT,
+                        name TEXT NOT NULL UNIQUE,
+                        created_at TEXT NOT NULL,
+                        updated_at TEXT,
+                        is_active BOOLEAN NOT NULL
+                    )
+                    """);
+                stmt.execute("""
+                    CREATE TABLE tasks (
+                        id INTEGER PRIMARY KEY AUTOINCREMENT,
+                        name TEXT NOT NULL,
+                        status TEXT NOT NULL DEFAULT 'todo',
+                        due_date TEXT,
+                        created_at TEXT NOT NULL,
+                        updated_at TEXT,
+                        collection_id INTEGER NOT NULL,
+                        FOREIGN KEY (collection_id) REFERENCES collections (id)
+                    )
+                    """);
+                stmt.execute("INSERT INTO collections (name, created_at, is_active) VALUES ('Work', '01/02/2026 10:00', 1)");
+                stmt.execute("INSERT INTO tasks (name, status, created_at, collection_id) VALUES ('Write Docs', 'todo', '02/02/2026 09:30', 1)");
+                // Left behind by a collection delete before foreign keys were enforced
+                stmt.execute("INSERT INTO tasks (name, status, created_at, collection_id) VALUES ('Lost', 'todo', '02/02/2026 09:30', 9)");
+            }
+
+            Migrations.migrate(connection);
+            assertEquals(Migrations.LATEST, Migrations.userVersion(connection));
+
+            try (Statement stmt = connection.createStatement()) {
+                ResultSet rs = stmt.executeQuery("SELECT id FROM tasks WHERE collection_id = 1 AND name = 'write docs'");
+                assertTrue(rs.next(), "task names compare case-insensitively");
+                assertEquals(1, rs.getInt("id"));
+
+                rs = stmt.executeQuery("SELECT id FROM collections WHERE name = 'WORK'");
+                assertTrue(rs.next(), "collection names compare case-insensitively");
+
+                rs = stmt.executeQuery("SELECT created_at, typeof(created_at) AS type FROM tasks WHERE id = 1");
+                assertTrue(rs.next());
+                assertEquals("integer", rs.getString("type"));
+                assertEquals(LocalDateTime.of(2026, 2, 2, 9, 30), Timestamps.toLocalDateTime(rs.getLong("created_at")));
+
+                rs = stmt.executeQuery("EXPLAIN QUERY PLAN SELECT * FROM tasks WHERE collection_id = 1 AND name = 'x'");
+                assertTrue(rs.next());
+                assertTrue(rs.getString("detail").contains("idx_tasks_collection_name"), rs.getString("detail"));
+
+                rs = stmt.executeQuery("SELECT total, todo FROM collection_stats WHERE collection_id = 1");
+                assertTrue(rs.next(), "existing collections are backfilled");
+                assertEquals(1, rs.getInt("total"));
+                assertEquals(1, rs.getInt("todo"));
+
+                rs = stmt.executeQuery("SELECT COUNT(*) FROM tasks");
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1), "orphaned tasks are dropped");
+
+                rs = stmt.executeQuery("SELECT collection_id, name FROM active_collection WHERE id = 1");
+                assertTrue(rs.next(), "the active flag becomes the pointer row");
+                assertEquals(1, rs.getInt("collection_id"));
+                assertEquals("Work", rs.getString("name"));
+
+                stmt.execute("UPDATE collections SET name = 'Office' WHERE id = 1");
+                rs = stmt.executeQuery("SELECT name FROM active_collection WHERE id = 1");
+                assertTrue(rs.next());
+                assertEquals("Office", rs.getString("name"), "renames reach the pointer");
+            }
+        }
+    }
+
+    @Test
+    public void deletingACollectionDeletesItsTasks() throws SQLException {
+        try (Connection connection = open("cascade.db")) {
+            Migrations.migrate(connection);
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA foreign_keys = ON");
+                stmt.execute("INSERT INTO collections (name, created_at) VALUES ('A', 0), ('B', 0)");
+                stmt.execute("INSERT INTO tasks (name, created_at, collection_id) VALUES ('alpha', 0, 1), ('beta', 0, 1), ('gamma', 0, 2)");
+                stmt.execute("INSERT INTO archived_tasks (id, name, status, created_at, collection_id, archived_at) "
+                        + "VALUES (100, 'old', 'done', 0, 1, 0)");
+
+                stmt.execute("DELETE FROM collections WHERE id = 1");
+
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM tasks WHERE collection_id = 1");
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+
+                rs = stmt.executeQuery("SELECT COUNT(*) FROM archived_tasks");
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1), "archived tasks go with their collection too");
+                assertEquals(0, matches(stmt, "alpha"), "cascaded deletes reach the search index");
+                assertEquals(1, matches(stmt, "gamma"));
+
+                rs = stmt.executeQuery("SELECT total FROM collection_stats WHERE collection_id = 2");
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+
+                assertThrows(SQLException.class,
+                        () -> stmt.execute("INSERT INTO tasks (name, created_at, collection_id) VALUES ('x', 0, 1)"));
+            }
+        }
+    }
+
+    @Test
+    public void collectionStatsFollowTaskChanges() throws SQLException {
+        try (Connection connection = open("stats.db")) {
+            Migrations.migrate(connection);
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("INSERT INTO collections (name, created_at) VALUES ('A', 0), ('B', 0)");
+                stmt.execute("INSERT INTO tasks (name, status, created_at, collection_id) VALUES "
+                        + "('t1', 'todo', 0, 1), ('t2', 'todo', 0, 1), ('t3', 'done', 0, 1), ('t4', 'todo', 0, 2)");
+                stmt.execute("UPDATE tasks SET status = 'in_progress' WHERE name = 't1'");
+                stmt.execute("UPDATE tasks SET collection_id = 2 WHERE name = 't2'");
+                stmt.execute("UPDATE tasks SET name = 'renamed' WHERE name = 't3'");
+                stmt.execute("DELETE FROM tasks WHERE name = 't4'");
+
+                ResultSet rs = stmt.executeQuery("""
+                    SELECT s.total, s.todo, s.in_progress, s.done,
+                           (SELECT COUNT(*) FROM tasks t WHERE t.collection_id = s.collection_id) AS actual
+                    FROM collection_stats s ORDER BY s.collection_id
+                    """);
+                assertTrue(rs.next());
+                assertEquals(rs.getInt("actual"), rs.getInt("total"));
+                assertEquals(0, rs.getInt("todo"));
+                assertEquals(1, rs.getInt("in_progress"));
+                assertEquals(1, rs.getInt("done"));
+
+                assertTrue(rs.next());
+                assertEquals(rs.getInt("actual"), rs.getInt("total"));
+                assertEquals(1, rs.getInt("todo"));
+
+                stmt.execute("DELETE FROM collections WHERE id = 2");
+                rs = stmt.executeQuery("SELECT COUNT(*) FROM collection_stats WHERE collection_id = 2");
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1), "stats rows go with their collection");
+            }
+        }
+    }
+
+    @Test
+    public void searchIndexFollowsTaskNames() throws SQLException {
+        try (Connection connection = open("search.db")) {
+            try (Statement stmt = connection.createStatement()) {
+                // Rows written before the index exists are picked up by the rebuild
+                Migrations.migrate(connection);
+                stmt.execute("INSERT INTO collections (name, created_at) VALUES ('A', 0)");
+                stmt.execute("INSERT INTO tasks (name, created_at, collection_id) VALUES ('Fix login bug', 0, 1), ('Write docs', 0, 1)");
+                stmt.execute("UPDATE tasks SET name = 'Repair signup' WHERE name = 'Fix login bug'");
+                stmt.execute("DELETE FROM tasks WHERE name = 'Write docs'");
+
+                assertEquals(0, matches(stmt, "login"));
+                assertEquals(1, matches(stmt, "signup"));
+                assertEquals(1, matches(stmt, "\"rep\"*"));
+                assertEquals(0, matches(stmt, "docs"));
+            }
+        }
+    }
+
+    @Test
+    public void changeLogKeepsEachTasksLatestChange() throws SQLException {
+        try (Connection connection = open("changes.db")) {
+            Migrations.migrate(connection);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA foreign_keys = ON");
+                stmt.execute("INSERT INTO collections (name, created_at) VALUES ('A', 0), ('B', 0)");
+                // New tasks are found by id and log nothing
+                stmt.execute("INSERT INTO tasks (name, created_at, collection_id) VALUES ('one', 0, 1), ('two', 0, 1), ('three', 0, 2)");
+                assertEquals(0, changes(stmt));
+
+                // Same updated_at as before: the sequence still moves on
+                stmt.execute("UPDATE tasks SET status = 'done' WHERE name = 'one'");
+                stmt.execute("UPDATE tasks SET status = 'done' WHERE name = 'three'");
+                stmt.execute("DELETE FROM tasks WHERE name = 'two'");
+
+                try (ResultSet rs = stmt.executeQuery("SELECT task_id, collection_id, seq FROM task_changes ORDER BY seq")) {
+                    assertTrue(rs.next());
+                    assertEquals(1, rs.getInt("task_id"));
+                    assertEquals(1, rs.getLong("seq"));
+                    assertTrue(rs.next());
+                    assertEquals(3, rs.getInt("task_id"));
+                    assertTrue(rs.next());
+                    assertEquals(2, rs.getInt("task_id"));
+                    assertEquals(1, rs.getInt("collection_id"));
+                    assertEquals(3, rs.getLong("seq"));
+                    assertFalse(rs.next());
+                }
+
+                // A deleted collection takes its rows and leaves no tombstones
+                stmt.execute("DELETE FROM collections WHERE name = 'A'");
+                assertEquals(1, changes(stmt));
+            }
+        }
+    }
+
+    private int changes(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM task_changes")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private int matches(Statement stmt, String query) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM tasks_fts WHERE tasks_fts MATCH '" + query + "'")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.kanban_cli.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.kanban_cli.model.Task;
+
+/**
+ * Page cursors as printed after a page and passed back with --after.
+ */
+public class PageCursorTest {
+
+    @Test
+    public void printedCursorParsesBack() {
+        Task task = new Task("last on page");
+        task.setId(42);
+        task.setCreatedAtMillis(1764547200000L);
+
+        PageCursor cursor = PageCursor.of(task);
+
+        assertEquals("1764547200000:42", cursor.toString());
+        assertEquals(cursor, PageCursor.parse(cursor.toString()));
+        assertEquals(cursor, PageCursor.parse("  1764547200000:42 "));
+    }
+
+    @Test
+    public void malformedCursorsAreRejected() {
+        for (String text : new String[] {"", "42", ":42", "1764547200000:", "abc:1", "1:2:3", "1:99999999999"}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PageCursor.parse(text),
+                    text);
+            assertTrue(e.getMessage().startsWith("Invalid cursor"), e.getMessage());
+        }
+    }
+}
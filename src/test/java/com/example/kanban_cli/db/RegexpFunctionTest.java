@@ -0,0 +1,45 @@
+package com.example.kanban_cli.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The REGEXP operator as a selection uses it, several patterns per statement.
+ */
+public class RegexpFunctionTest {
+
+    @Test
+    public void everyPatternOfAStatementMatchesIgnoringCase() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                Statement stmt = connection.createStatement()) {
+            RegexpFunction.register(connection);
+            stmt.execute("CREATE TABLE t (name TEXT)");
+            stmt.execute("INSERT INTO t VALUES ('Apple pie'), ('blueberry'), ('Cherry'), ('école'), (NULL)");
+
+            try (ResultSet rs = stmt.executeQuery("SELECT group_concat(name, ',') FROM t"
+                    + " WHERE name REGEXP '^app' OR name REGEXP 'RRY$' OR name REGEXP '^ÉCO'")) {
+                rs.next();
+                assertEquals("Apple pie,blueberry,Cherry,école", rs.getString(1));
+            }
+        }
+    }
+
+    @Test
+    public void invalidPatternFailsTheStatement() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                Statement stmt = connection.createStatement()) {
+            RegexpFunction.register(connection);
+            SQLException e = assertThrows(SQLException.class, () -> stmt.executeQuery("SELECT 'x' REGEXP '('"));
+            assertTrue(e.getMessage().contains("Invalid regular expression"), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.kanban_cli.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Globs rewritten to LIKE patterns, and the condition built for a selection.
+ */
+public class TaskSelectionTest {
+
+    @Test
+    public void globWildcardsBecomeLikeWildcards() {
+        assertEquals("fix %", TaskSelection.toLike("fix *"));
+        assertEquals("v_._", TaskSelection.toLike("v?.?"));
+    }
+
+    @Test
+    public void likeWildcardsInGlobsAreEscaped() {
+        assertEquals("100\\% done", TaskSelection.toLike("100% done"));
+        assertEquals("snake\\_case%", TaskSelection.toLike("snake_case*"));
+        assertEquals("C:\\\\temp", TaskSelection.toLike("C:\\temp"));
+    }
+
+    @Test
+    public void escapedPatternsMatchLiterallyInSqlite() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                PreparedStatement like = connection.prepareStatement("SELECT ? LIKE ? ESCAPE '\\'")) {
+            assertTrue(matches(like, "100% DONE", "100% done"));
+            assertFalse(matches(like, "1000 done", "100% done"));
+            assertTrue(matches(like, "snake_case test", "snake_case*"));
+            assertFalse(matches(like, "snakeXcase test", "snake_case*"));
+            assertTrue(matches(like, "C:\\temp", "C:\\temp"));
+        }
+    }
+
+    @Test
+    public void conditionDependsOnTheKindsOfMatchNotTheirCount() {
+        TaskSelection selection = new TaskSelection(List.of(1, 2), List.of("a"), List.of("b*"), List.of("^c"));
+
+        assertTrue(selection.byName());
+        assertFalse(selection.isEmpty());
+        assertEquals("(id IN (SELECT value FROM json_each(?)) OR (collection_id = ? AND ("
+                + "name IN (SELECT value FROM json_each(?))"
+                + " OR EXISTS (SELECT 1 FROM json_each(?) WHERE name LIKE value ESCAPE '\\')"
+                + " OR EXISTS (SELECT 1 FROM json_each(?) WHERE name REGEXP value))))", selection.condition());
+        assertEquals(new TaskSelection(List.of(3), List.of(), List.of(), List.of()).condition(),
+                new TaskSelection(List.of(3, 4, 5), List.of(), List.of(), List.of()).condition());
+    }
+
+    @Test
+    public void boundSelectionMatchesIdsNamesGlobsAndRegexes() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                Statement stmt = connection.createStatement()) {
+            RegexpFunction.register(connection);
+            stmt.execute("CREATE TABLE tasks (id INTEGER PRIMARY KEY, name TEXT COLLATE NOCASE, collection_id INTEGER)");
+            stmt.execute("INSERT INTO tasks VALUES (1, 'other board', 2), (2, 'Fix \"login\"', 1),"
+                    + " (3, '100% done', 1), (4, 'ship v2', 1), (5, 'untouched', 1), (6, 'Fix \"login\"', 2)");
+
+            TaskSelection selection = new TaskSelection(List.of(1), List.of(" fix \"LOGIN\" "), List.of("100% *"),
+                    List.of("V\\d$"));
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "SELECT group_concat(id, ',') FROM (SELECT id FROM tasks WHERE " + selection.condition()
+                    + " ORDER BY id)")) {
+                assertEquals(6, selection.bind(pstmt, 1, 1));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    assertEquals("1,2,3,4", rs.getString(1));
+                }
+            }
+        }
+    }
+
+    private boolean matches(PreparedStatement like, String name, String glob) throws SQLException {
+        like.setString(1, name);
+        like.setString(2, TaskSelection.toLike(glob));
+        try (ResultSet rs = like.executeQuery()) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.kanban_cli.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CSV parsing: header handling, quoting and malformed records.
+ */
+public class CsvReaderTest {
+
+    private CsvReader reader(String text) {
+        return new CsvReader(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void headerNamesFieldsCaseInsensitively() throws IOException {
+        try (CsvReader csv = reader(" Name ,STATUS\nFix login,todo\n")) {
+            assertEquals(Map.of("name", "Fix login", "status", "todo"), csv.next());
+            assertNull(csv.next());
+        }
+    }
+
+    @Test
+    public void quotedFieldsKeepCommasAndDoubledQuotes() throws IOException {
+        try (CsvReader csv = reader("name,status\n\"Write, then \"\"ship\"\"\",done\n")) {
+            assertEquals("Write, then \"ship\"", csv.next().get("name"));
+        }
+    }
+
+    @Test
+    public void quotedFieldSpansLineBreaks() throws IOException {
+        try (CsvReader csv = reader("name,status\n\"first\nsecond\",todo\nnext,done\n")) {
+            Map<String, String> record = csv.next();
+            assertEquals("first\nsecond", record.get("name"));
+            assertEquals("todo", record.get("status"));
+            assertEquals(2, csv.line());
+
+            assertEquals("next", csv.next().get("name"));
+            assertEquals(4, csv.line());
+        }
+    }
+
+    @Test
+    public void blankLinesAreSkippedAndShortRowsLeaveFieldsOut() throws IOException {
+        try (CsvReader csv = reader("name,status\n\nonly name\n")) {
+            assertEquals(Map.of("name", "only name"), csv.next());
+            assertNull(csv.next());
+        }
+    }
+
+    @Test
+    public void extraFieldsAreRejectedAndReadingGoesOn() throws IOException {
+        try (CsvReader csv = reader("name\na,b\nc\n")) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, csv::next);
+            assertTrue(e.getMessage().contains("2 fields"), e.getMessage());
+            assertEquals(Map.of("name", "c"), csv.next());
+        }
+    }
+
+    @Test
+    public void unterminatedQuoteFailsWithItsLine() {
+        CsvReader csv = reader("name\nok\n\"never closed\n");
+        IOException e = assertThrows(IOException.class, () -> {
+            csv.next();
+            csv.next();
+        });
+        assertTrue(e.getMessage().startsWith("Line 3"), e.getMessage());
+    }
+
+    @Test
+    public void escapeQuotesOnlyWhenNeeded() {
+        assertEquals("plain", CsvReader.escape("plain"));
+        assertEquals("\"a,b\"", CsvReader.escape("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvReader.escape("say \"hi\""));
+        assertEquals("\"two\nlines\"", CsvReader.escape("two\nlines"));
+        assertEquals("", CsvReader.escape(null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.kanban_cli.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+/**
+ * CSV export lines, and reading them back with CsvReader.
+ */
+public class CsvWriterTest {
+
+    @Test
+    public void writesHeaderAndOneLinePerTask() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+        Collection collection = new Collection("Work");
+
+        csv.begin();
+        csv.collection(collection);
+        csv.task(collection, task(7, "Fix login", null, null));
+        csv.end();
+
+        assertEquals("collection,id,name,status,due_date,created_at,updated_at,archived_at\r\n"
+                + "Work,7,Fix login,todo,,1000,,\r\n", out.toString());
+    }
+
+    @Test
+    public void quotedValuesReadBackUnchanged() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+        Collection collection = new Collection("Q1, \"big\" goals");
+
+        csv.begin();
+        csv.task(collection, task(1, "Write,\nthen \"ship\"", 5000L, 2000L));
+
+        try (CsvReader reader = new CsvReader(new BufferedReader(new StringReader(out.toString())))) {
+            Map<String, String> record = reader.next();
+            assertEquals("Q1, \"big\" goals", record.get("collection"));
+            assertEquals("Write,\nthen \"ship\"", record.get("name"));
+            assertEquals("5000", record.get("due_date"));
+            assertEquals("2000", record.get("updated_at"));
+            assertNull(reader.next());
+        }
+    }
+
+    private Task task(int id, String name, Long dueDate, Long updatedAt) {
+        Task task = new Task(name);
+        task.setId(id);
+        task.setCreatedAtMillis(1000);
+        task.setDueDateMillis(dueDate);
+        task.setUpdatedAtMillis(updatedAt);
+        return task;
+    }
+}
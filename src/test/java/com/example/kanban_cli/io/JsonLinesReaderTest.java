@@ -0,0 +1,74 @@
+package com.example.kanban_cli.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JSON Lines parsing: flat values, escapes and malformed lines.
+ */
+public class JsonLinesReaderTest {
+
+    private JsonLinesReader reader(String text) {
+        return new JsonLinesReader(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void flatValuesReadAsText() throws IOException {
+        try (JsonLinesReader json = reader("{\"Name\": \"Fix login\", \"due_date\": 1767225600000, \"done\": true, \"note\": null}\n")) {
+            Map<String, String> expected = new HashMap<>();
+            expected.put("name", "Fix login");
+            expected.put("due_date", "1767225600000");
+            expected.put("done", "true");
+            expected.put("note", null);
+            assertEquals(expected, json.next());
+            assertNull(json.next());
+        }
+    }
+
+    @Test
+    public void escapesAreDecoded() throws IOException {
+        try (JsonLinesReader json = reader("{\"name\":\"say \\\"hi\\\"\\nnow \\u00e9\\\\\"}")) {
+            assertEquals("say \"hi\"\nnow \u00e9\\", json.next().get("name"));
+        }
+    }
+
+    @Test
+    public void blankLinesAreSkippedAndCounted() throws IOException {
+        try (JsonLinesReader json = reader("\n  \n{}\n")) {
+            assertEquals(Map.of(), json.next());
+            assertEquals(3, json.line());
+        }
+    }
+
+    @Test
+    public void malformedLinesAreRejectedAndReadingGoesOn() throws IOException {
+        try (JsonLinesReader json = reader("{\"name\": \"a\"\n{\"name\": [1]}\n{\"name\": bad}\n{\"name\": \"b\"} x\n{\"name\": \"ok\"}\n")) {
+            for (String problem : new String[] {"unexpected end", "nested", "invalid value 'bad'", "after object"}) {
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class, json::next);
+                assertTrue(e.getMessage().startsWith("Malformed JSON"), e.getMessage());
+                assertTrue(e.getMessage().contains(problem), e.getMessage());
+            }
+            assertEquals(Map.of("name", "ok"), json.next());
+            assertEquals(5, json.line());
+        }
+    }
+
+    @Test
+    public void quoteRoundTripsThroughTheParser() throws IOException {
+        String value = "tab\tquote\" back\\ bell\u0007 line\r\n";
+        try (JsonLinesReader json = reader("{\"name\":" + JsonLinesReader.quote(value) + "}")) {
+            assertEquals(value, json.next().get("name"));
+        }
+        assertEquals("\"\\u0007\"", JsonLinesReader.quote("\u0007"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.kanban_cli.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+/**
+ * JSON Lines export, and reading it back with JsonLinesReader.
+ */
+public class JsonLinesWriterTest {
+
+    @Test
+    public void writesOneObjectPerTaskWithNulls() throws IOException {
+        StringWriter out = new StringWriter();
+        Collection collection = new Collection("Work");
+        Task task = new Task("Fix login");
+        task.setId(7);
+        task.setCreatedAtMillis(1000);
+
+        new JsonLinesWriter(out).task(collection, task);
+
+        assertEquals("{\"collection\":\"Work\",\"id\":7,\"name\":\"Fix login\",\"status\":\"todo\","
+                + "\"due_date\":null,\"created_at\":1000,\"updated_at\":null,\"archived_at\":null}\n", out.toString());
+    }
+
+    @Test
+    public void escapedValuesReadBackUnchanged() throws IOException {
+        StringWriter out = new StringWriter();
+        Collection collection = new Collection("C:\\work \"main\"");
+        Task task = new Task("two\nlines\tand a \u0001");
+        task.setId(1);
+        task.setCreatedAtMillis(1000);
+        task.setDueDateMillis(5000L);
+
+        new JsonLinesWriter(out).task(collection, task);
+
+        try (JsonLinesReader reader = new JsonLinesReader(new BufferedReader(new StringReader(out.toString())))) {
+            Map<String, String> record = reader.next();
+            assertEquals("C:\\work \"main\"", record.get("collection"));
+            assertEquals("two\nlines\tand a \u0001", record.get("name"));
+            assertEquals("5000", record.get("due_date"));
+            assertNull(record.get("updated_at"));
+            assertNull(reader.next());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.kanban_cli.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.kanban_cli.model.Collection;
+import com.example.kanban_cli.model.Task;
+
+/**
+ * The SQL export script, run against an empty database.
+ */
+public class SqlWriterTest {
+
+    @Test
+    public void scriptRecreatesRowsAndReusesCollectionsByName() throws IOException, SQLException {
+        StringWriter out = new StringWriter();
+        SqlWriter sql = new SqlWriter(out);
+        Collection collection = new Collection("Bob's board");
+        collection.setCreatedAtMillis(100);
+
+        Task task = new Task("It's done; DROP TABLE tasks; --");
+        task.setStatus("done");
+        task.setCreatedAtMillis(1000);
+        task.setUpdatedAtMillis(2000L);
+
+        Task archived = new Task("Shipped");
+        archived.setStatus("done");
+        archived.setCreatedAtMillis(1000);
+        archived.setArchivedAtMillis(3000L);
+
+        sql.begin();
+        sql.collection(collection);
+        sql.task(collection, task);
+        sql.task(collection, archived);
+        sql.end();
+
+        String script = out.toString();
+        assertTrue(script.startsWith("BEGIN TRANSACTION;\n"), script);
+        assertTrue(script.endsWith("COMMIT;\n"), script);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+                Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE collections (id INTEGER PRIMARY KEY, name TEXT UNIQUE, created_at INTEGER, updated_at INTEGER)");
+            stmt.execute("CREATE TABLE tasks (id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT, status TEXT,"
+                    + " due_date INTEGER, created_at INTEGER, updated_at INTEGER, collection_id INTEGER)");
+            stmt.execute("CREATE TABLE archived_tasks (id INTEGER PRIMARY KEY, name TEXT, status TEXT,"
+                    + " due_date INTEGER, created_at INTEGER, updated_at INTEGER, collection_id INTEGER,"
+                    + " archived_at INTEGER)");
+            stmt.execute("INSERT INTO collections (name, created_at) VALUES ('Bob''s board', 1)");
+
+            for (String statement : script.split(";\n")) {
+                stmt.execute(statement);
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT t.*, c.created_at AS collection_created"
+                    + " FROM tasks t JOIN collections c ON c.id = t.collection_id")) {
+                assertTrue(rs.next());
+                assertEquals("It's done; DROP TABLE tasks; --", rs.getString("name"));
+                assertEquals("done", rs.getString("status"));
+                assertNull(rs.getObject("due_date"));
+                assertEquals(2000, rs.getLong("updated_at"));
+                assertEquals(1, rs.getLong("collection_created"));
+                assertFalse(rs.next());
+            }
+
+            // The archived task leaves the board, keeping an id of the tasks sequence
+            try (ResultSet rs = stmt.executeQuery("SELECT * FROM archived_tasks")) {
+                assertTrue(rs.next());
+                assertEquals(2, rs.getInt("id"));
+                assertEquals("Shipped", rs.getString("name"));
+                assertEquals(1, rs.getInt("collection_id"));
+                assertEquals(3000, rs.getLong("archived_at"));
+                assertFalse(rs.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.kanban_cli.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.kanban_cli.model.Task;
+import com.example.kanban_cli.model.Timestamps;
+
+/**
+ * Side-by-side board rows: cell widths, cutting, blanks and due dates.
+ */
+public class BoardLayoutTest {
+
+    @Test
+    public void cellsArePaddedCutAndLeftBlank() {
+        StringWriter text = new StringWriter();
+        try (Renderer out = Renderer.to(text, Renderer.Format.TREE)) {
+            // (50 - 2 gaps of 3) / 3 columns = 14 characters per cell
+            BoardLayout layout = new BoardLayout(out, 3, 50);
+            layout.header("Todo (2)", "In Progress (0)", "Done (1)");
+            layout.row(task(1, "Short", "todo"), null, task(3, "A much longer task name", "done"));
+            layout.row(task(2, "Exactly 14 ch.", "todo"), null, null);
+            layout.footer("(more)", null, null);
+        }
+
+        assertEquals("""
+                Todo (2)       | In Progress... | Done (1)
+                ---------------+----------------+---------------
+                #1 Short       |                | #3 A much l...
+                #2 Exactly ... |                |
+                (more)         |                |
+                """, text.toString());
+    }
+
+    @Test
+    public void narrowBoardsKeepAMinimumCellWidth() {
+        StringWriter text = new StringWriter();
+        try (Renderer out = Renderer.to(text, Renderer.Format.TREE)) {
+            new BoardLayout(out, 2, 10).row(task(1, "abcdefghijklmnop", "todo"), task(2, "b", "todo"));
+        }
+
+        assertEquals("#1 abcdef... | #2 b\n", text.toString());
+    }
+
+    @Test
+    public void dueDatesShowDayAndMonthWithOverdueMark() {
+        long past = Timestamps.toMillis(LocalDateTime.of(2020, 2, 3, 12, 0));
+        long future = Timestamps.toMillis(LocalDateTime.now().plusYears(1).withMonth(7).withDayOfMonth(9));
+        Task late = task(1, "Late", "todo");
+        late.setDueDateMillis(past);
+        Task finished = task(2, "Done", "done");
+        finished.setDueDateMillis(past);
+        Task upcoming = task(3, "Soon", "todo");
+        upcoming.setDueDateMillis(future);
+
+        StringWriter text = new StringWriter();
+        try (Renderer out = Renderer.to(text, Renderer.Format.TREE)) {
+            new BoardLayout(out, 3, 80).row(late, finished, upcoming);
+        }
+
+        // 24 characters per cell
+        assertEquals("#1 Late (03/02!)         | #2 Done (03/02)          | #3 Soon (09/07)\n",
+                text.toString());
+    }
+
+    private Task task(int id, String name, String status) {
+        Task task = new Task(name);
+        task.setId(id);
+        task.setStatus(status);
+        task.setCreatedAtMillis(0);
+        return task;
+    }
+}